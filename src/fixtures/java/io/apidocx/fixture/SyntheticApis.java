@@ -0,0 +1,132 @@
+package io.apidocx.fixture;
+
+import com.google.common.collect.Lists;
+import io.apidocx.model.Api;
+import io.apidocx.model.DataTypes;
+import io.apidocx.model.HttpMethod;
+import io.apidocx.model.ParameterIn;
+import io.apidocx.model.Property;
+import io.apidocx.model.RequestBodyType;
+import io.apidocx.model.Value;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 合成接口数据: 结构固定, 多次生成的结果相同, 便于对比不同版本的测试结果.
+ */
+public final class SyntheticApis {
+
+    /**
+     * 每个分类的接口数
+     */
+    private static final int APIS_PER_CATEGORY = 10;
+
+    private static final HttpMethod[] METHODS = {HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT,
+            HttpMethod.DELETE};
+
+    private SyntheticApis() {
+    }
+
+    /**
+     * 生成接口列表
+     *
+     * @param count 接口数量
+     * @param depth 请求体和响应体的对象嵌套层数
+     */
+    public static List<Api> generate(int count, int depth) {
+        List<Api> apis = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            apis.add(generate(i, count, depth));
+        }
+        return apis;
+    }
+
+    private static Api generate(int index, int count, int depth) {
+        int category = index / APIS_PER_CATEGORY;
+        HttpMethod method = METHODS[index % METHODS.length];
+        String resource = "resource" + index;
+
+        Api api = new Api();
+        api.setCategory("模块" + category);
+        api.setMethod(method);
+        api.setPath("/api/v1/module" + category + "/" + resource + "/{id}");
+        api.setSummary("接口" + index);
+        api.setDescription("合成接口" + index + ", 共" + count + "个");
+        api.setTags(Lists.newArrayList("synthetic", "module" + category));
+        api.setDeprecated(false);
+
+        List<Property> parameters = new ArrayList<>();
+        parameters.add(parameter("id", DataTypes.INTEGER, ParameterIn.path, "主键"));
+        parameters.add(parameter("X-Trace-Id", DataTypes.STRING, ParameterIn.header, "链路id"));
+        parameters.add(parameter("pageNum", DataTypes.INTEGER, ParameterIn.query, "页码"));
+        parameters.add(parameter("pageSize", DataTypes.INTEGER, ParameterIn.query, "每页条数"));
+        api.setParameters(parameters);
+
+        if (method.isAllowBody()) {
+            api.setRequestBodyType(RequestBodyType.json);
+            api.setRequestBody(object("请求体", depth));
+        }
+
+        Property responses = new Property();
+        responses.setType(DataTypes.OBJECT);
+        responses.setRequired(false);
+        responses.setDeprecated(false);
+        responses.addProperty("code", field("code", DataTypes.INTEGER, "响应码"));
+        responses.addProperty("message", field("message", DataTypes.STRING, "响应信息"));
+        responses.addProperty("data", object("响应数据", depth));
+        api.setResponses(responses);
+        return api;
+    }
+
+    /**
+     * 嵌套对象: 每层包含基本类型字段、枚举、日期、数组和下一层对象, 字段数随层数线性增长
+     */
+    private static Property object(String description, int depth) {
+        Property object = field(null, DataTypes.OBJECT, description);
+        object.addProperty("id", field("id", DataTypes.INTEGER, "主键"));
+        object.addProperty("name", field("name", DataTypes.STRING, "名称"));
+        object.addProperty("email", field("email", DataTypes.STRING, "邮箱"));
+        object.addProperty("amount", field("amount", DataTypes.NUMBER, "金额"));
+        object.addProperty("enabled", field("enabled", DataTypes.BOOLEAN, "是否启用"));
+
+        Property status = field("status", DataTypes.INTEGER, "状态");
+        status.setValues(Lists.newArrayList(new Value("0", "停用"), new Value("1", "启用")));
+        object.addProperty("status", status);
+
+        Property createdAt = field("createdAt", DataTypes.STRING, "创建时间");
+        createdAt.setDateFormat("yyyy-MM-dd HH:mm:ss");
+        object.addProperty("createdAt", createdAt);
+
+        Property tags = field("tags", DataTypes.ARRAY, "标签");
+        tags.setItems(field(null, DataTypes.STRING, null));
+        object.addProperty("tags", tags);
+
+        if (depth > 1) {
+            Property child = object("子对象", depth - 1);
+            child.setName("child");
+            object.addProperty("child", child);
+
+            Property children = field("children", DataTypes.ARRAY, "子对象列表");
+            children.setItems(object("子对象", 1));
+            object.addProperty("children", children);
+        }
+        return object;
+    }
+
+    private static Property parameter(String name, String type, ParameterIn in, String description) {
+        Property parameter = field(name, type, description);
+        parameter.setIn(in);
+        parameter.setRequired(in == ParameterIn.path);
+        return parameter;
+    }
+
+    private static Property field(String name, String type, String description) {
+        Property property = new Property();
+        property.setName(name);
+        property.setType(type);
+        property.setDescription(description);
+        property.setRequired(false);
+        property.setDeprecated(false);
+        return property;
+    }
+}
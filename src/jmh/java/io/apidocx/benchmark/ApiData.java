@@ -0,0 +1,30 @@
+package io.apidocx.benchmark;
+
+import io.apidocx.fixture.SyntheticApis;
+import io.apidocx.model.Api;
+import java.util.List;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 基准测试输入: 接口数量 x 请求体/响应体嵌套层数
+ */
+@State(Scope.Benchmark)
+public class ApiData {
+
+    @Param({"10", "100", "1000"})
+    public int apiCount;
+
+    @Param({"1", "3", "6"})
+    public int depth;
+
+    public List<Api> apis;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        apis = SyntheticApis.generate(apiCount, depth);
+    }
+}
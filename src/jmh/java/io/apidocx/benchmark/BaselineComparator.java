@@ -0,0 +1,124 @@
+package io.apidocx.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 对比JMH结果(json格式)与存储的基线, 输出每个基准的变化比例.
+ * <p>
+ * 参数: 基线文件 结果文件 [允许的退化比例, 默认0.10]. 变化超出比例且超出两次结果的误差(99.9%置信区间)之和时
+ * 视为退化, 退出码为1; 只超出比例时视为噪声, 只提示. 没有基线时只提示, 不失败.
+ */
+public class BaselineComparator {
+
+    public static void main(String[] args) throws IOException {
+        Path baselineFile = Paths.get(args[0]);
+        Path resultFile = Paths.get(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        if (!Files.exists(baselineFile)) {
+            System.out.println("WARNING: no baseline at " + baselineFile
+                    + ", comparison skipped; record one on this machine with ./gradlew jmhBaseline");
+            return;
+        }
+        Map<String, Score> baseline = read(baselineFile);
+        Map<String, Score> results = read(resultFile);
+
+        int regressions = 0;
+        System.out.printf("%-90s %20s %20s %8s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            if (base == null || !base.unit.equals(current.unit)) {
+                System.out.printf("%-90s %20s %20s %8s%n", entry.getKey(), "-", current, "new");
+                continue;
+            }
+            // 吞吐量越大越好, 其余模式(耗时)越小越好
+            double change = current.higherIsBetter()
+                    ? (base.score - current.score) / base.score
+                    : (current.score - base.score) / base.score;
+            boolean exceeded = change > threshold;
+            boolean regressed = exceeded && !current.overlaps(base);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %20s %20s %+7.1f%%%s%n", entry.getKey(), base, current, change * 100,
+                    regressed ? "  REGRESSION" : exceeded ? "  (within error)" : "");
+        }
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed more than %.0f%% against %s%n", regressions,
+                    threshold * 100, baselineFile);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 基准名 + 参数 -> 分数
+     */
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonArray array = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : array) {
+                JsonObject result = element.getAsJsonObject();
+                StringBuilder key = new StringBuilder(result.get("benchmark").getAsString());
+                JsonObject params = result.getAsJsonObject("params");
+                if (params != null) {
+                    Map<String, String> sorted = new TreeMap<>();
+                    params.entrySet().forEach(e -> sorted.put(e.getKey(), e.getValue().getAsString()));
+                    key.append(sorted);
+                }
+                JsonObject metric = result.getAsJsonObject("primaryMetric");
+                JsonElement error = metric.get("scoreError");
+                scores.put(key.toString(), new Score(result.get("mode").getAsString(),
+                        metric.get("score").getAsDouble(), error != null ? error.getAsDouble() : Double.NaN,
+                        metric.get("scoreUnit").getAsString()));
+            }
+        }
+        return scores;
+    }
+
+    private static class Score {
+
+        private final String mode;
+        private final double score;
+        /**
+         * 99.9%置信区间的半宽, 只有一次迭代时为NaN
+         */
+        private final double error;
+        private final String unit;
+
+        Score(String mode, double score, double error, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        /**
+         * 两次结果的差值是否在误差之内, 误差未知时按不在误差之内处理
+         */
+        boolean overlaps(Score other) {
+            double errors = error + other.error;
+            return !Double.isNaN(errors) && Math.abs(score - other.score) <= errors;
+        }
+
+        @Override
+        public String toString() {
+            return Double.isNaN(error) ? String.format("%.3f", score) : String.format("%.3f +- %.3f", score, error);
+        }
+    }
+}
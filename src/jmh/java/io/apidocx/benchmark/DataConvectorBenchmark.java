@@ -0,0 +1,102 @@
+package io.apidocx.benchmark;
+
+import com.google.gson.Gson;
+import io.apidocx.base.sdk.yapi.model.ApiInterface;
+import io.apidocx.base.util.PropertyUtils;
+import io.apidocx.handle.apifox.process.ApifoxDataConvector;
+import io.apidocx.handle.eolink.process.EolinkDataConvector;
+import io.apidocx.handle.rap2.process.Rap2DataConvector;
+import io.apidocx.handle.yapi.process.YapiDataConvector;
+import io.apidocx.handle.yapi.process.YapiInterfaceModifyJudge;
+import io.apidocx.model.Api;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 平台数据转换: 各平台DataConvector, YApi修改判断, json示例生成.
+ * ShowDoc没有独立的转换器, 其页面内容由Markdown生成, 见{@link DocumentBenchmark#markdown}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class DataConvectorBenchmark {
+
+    private final ApifoxDataConvector apifoxDataConvector = new ApifoxDataConvector();
+
+    private List<ApiInterface> yapiApis;
+
+    /**
+     * 与yapiApis内容相同的副本, 修改判断需要完整比较
+     */
+    private List<ApiInterface> yapiOrigins;
+
+    @Setup(Level.Trial)
+    public void setup(ApiData data) {
+        Gson gson = new Gson();
+        yapiApis = new ArrayList<>(data.apis.size());
+        yapiOrigins = new ArrayList<>(data.apis.size());
+        for (Api api : data.apis) {
+            ApiInterface yapi = YapiDataConvector.convert(1, api);
+            yapiApis.add(yapi);
+            yapiOrigins.add(gson.fromJson(gson.toJson(yapi), ApiInterface.class));
+        }
+    }
+
+    @Benchmark
+    public void yapi(ApiData data, Blackhole bh) {
+        for (Api api : data.apis) {
+            bh.consume(YapiDataConvector.convert(1, api));
+        }
+    }
+
+    @Benchmark
+    public void rap2(ApiData data, Blackhole bh) {
+        for (Api api : data.apis) {
+            bh.consume(Rap2DataConvector.convert(1, api));
+        }
+    }
+
+    @Benchmark
+    public void eolink(ApiData data, Blackhole bh) {
+        for (Api api : data.apis) {
+            bh.consume(EolinkDataConvector.convert("project", api));
+        }
+    }
+
+    @Benchmark
+    public void apifox(ApiData data, Blackhole bh) {
+        for (Api api : data.apis) {
+            bh.consume(apifoxDataConvector.convert(1L, api));
+        }
+    }
+
+    @Benchmark
+    public void yapiIsModify(Blackhole bh) {
+        for (int i = 0; i < yapiApis.size(); i++) {
+            bh.consume(YapiInterfaceModifyJudge.isModify(yapiOrigins.get(i), yapiApis.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void jsonExample(ApiData data, Blackhole bh) {
+        for (Api api : data.apis) {
+            bh.consume(PropertyUtils.getJsonExample(api.getResponses()));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.apidocx.benchmark;
+
+import io.apidocx.handle.curl.CurlGenerator;
+import io.apidocx.handle.markdown.MarkdownGenerator;
+import io.apidocx.handle.openapi.OpenApiDataConvert;
+import io.apidocx.handle.openapi.OpenApiFileType;
+import io.apidocx.handle.openapi.OpenApiGenerator;
+import io.apidocx.model.Api;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 文档生成: Markdown, OpenAPI(转换, JSON, YAML), curl
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class DocumentBenchmark {
+
+    private final MarkdownGenerator markdownGenerator = new MarkdownGenerator();
+    private final OpenApiGenerator openApiGenerator = new OpenApiGenerator();
+    private final CurlGenerator curlGenerator = new CurlGenerator();
+
+    private OpenAPI openApi;
+
+    @Setup(Level.Trial)
+    public void setup(ApiData data) {
+        openApi = new OpenApiDataConvert().convert(data.apis);
+    }
+
+    @Benchmark
+    public String markdown(ApiData data) {
+        return markdownGenerator.generate(data.apis);
+    }
+
+    @Benchmark
+    public OpenAPI openApiConvert(ApiData data) {
+        return new OpenApiDataConvert().convert(data.apis);
+    }
+
+    @Benchmark
+    public String openApiJson() {
+        return openApiGenerator.generate(OpenApiFileType.JSON, openApi);
+    }
+
+    @Benchmark
+    public String openApiYaml() {
+        return openApiGenerator.generate(OpenApiFileType.YAML, openApi);
+    }
+
+    @Benchmark
+    public void curl(ApiData data, Blackhole bh) {
+        for (Api api : data.apis) {
+            bh.consume(curlGenerator.generate(api));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.apidocx.benchmark;
+
+import io.apidocx.base.sdk.apifox.model.ApiDetail;
+import io.apidocx.base.sdk.eolink.request.ApiSaveRequest;
+import io.apidocx.base.sdk.eolink.util.ApiConverter;
+import io.apidocx.base.sdk.http.BeanFormCodec;
+import io.apidocx.handle.apifox.process.ApifoxDataConvector;
+import io.apidocx.handle.eolink.process.EolinkDataConvector;
+import io.apidocx.model.Api;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 表单编码: 上传请求对象转换为表单参数, 原各平台的beanToMap
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class FormCodecBenchmark {
+
+    private List<ApiSaveRequest> eolinkRequests;
+    private List<ApiDetail> apifoxRequests;
+
+    @Setup(Level.Trial)
+    public void setup(ApiData data) {
+        ApifoxDataConvector apifoxDataConvector = new ApifoxDataConvector();
+        eolinkRequests = new ArrayList<>(data.apis.size());
+        apifoxRequests = new ArrayList<>(data.apis.size());
+        for (Api api : data.apis) {
+            eolinkRequests.add(ApiConverter.convertApiSaveRequest("project", EolinkDataConvector.convert("project",
+                    api)));
+            apifoxRequests.add(apifoxDataConvector.convert(1L, api));
+        }
+    }
+
+    @Benchmark
+    public void eolink(Blackhole bh) {
+        for (ApiSaveRequest request : eolinkRequests) {
+            bh.consume(BeanFormCodec.encode(request));
+        }
+    }
+
+    @Benchmark
+    public void apifox(Blackhole bh) {
+        for (ApiDetail request : apifoxRequests) {
+            bh.consume(BeanFormCodec.encode(request));
+        }
+    }
+}
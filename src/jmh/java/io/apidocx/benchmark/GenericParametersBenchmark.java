@@ -0,0 +1,63 @@
+package io.apidocx.benchmark;
+
+import io.apidocx.parse.util.PsiGenericUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 泛型参数分割: 参数个数 x 泛型嵌套层数
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class GenericParametersBenchmark {
+
+    @Param({"1", "3", "6"})
+    public int parameters;
+
+    @Param({"1", "3", "6"})
+    public int depth;
+
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parameters; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(generic(i, depth));
+        }
+        text = sb.toString();
+    }
+
+    /**
+     * 例如: java.util.Map&lt;java.lang.String, java.util.List&lt;com.example.Dto0>>
+     */
+    private static String generic(int index, int depth) {
+        if (depth <= 1) {
+            return "com.example.Dto" + index;
+        }
+        return "java.util.Map<java.lang.String, java.util.List<" + generic(index, depth - 1) + ">>";
+    }
+
+    @Benchmark
+    public String[] splitGenericParameters() {
+        return PsiGenericUtils.splitGenericParameters(text);
+    }
+}
@@ -0,0 +1,203 @@
+package io.apidocx.loadtest;
+
+import io.apidocx.base.sdk.apifox.ApifoxClient;
+import io.apidocx.base.sdk.eolink.EolinkClient;
+import io.apidocx.base.sdk.http.AsyncCalls;
+import io.apidocx.base.sdk.http.HttpStats;
+import io.apidocx.base.sdk.http.LatencyHistogram;
+import io.apidocx.base.sdk.rap2.Rap2Client;
+import io.apidocx.base.sdk.showdoc.ShowdocClient;
+import io.apidocx.base.sdk.yapi.YapiClient;
+import io.apidocx.base.sdk.yapi.model.LoginWay;
+import io.apidocx.fixture.SyntheticApis;
+import io.apidocx.handle.apifox.process.ApifoxUploader;
+import io.apidocx.handle.eolink.process.EolinkUploader;
+import io.apidocx.handle.rap2.process.Rap2Uploader;
+import io.apidocx.handle.showdoc.process.ShowdocUploader;
+import io.apidocx.handle.yapi.process.YapiUploader;
+import io.apidocx.model.Api;
+import io.apidocx.stub.ApifoxStub;
+import io.apidocx.stub.EolinkStub;
+import io.apidocx.stub.Rap2Stub;
+import io.apidocx.stub.ShowdocStub;
+import io.apidocx.stub.StubServer;
+import io.apidocx.stub.YapiStub;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 上传压测: 启动平台服务替身, 用合成接口驱动各平台的Uploader, 输出吞吐量、请求数和尾延迟.
+ * <p>
+ * 参数(key=value):
+ * <ul>
+ *     <li>platform: yapi, rap2, eolink, apifox, showdoc, all(默认)</li>
+ *     <li>apis: 接口数量, 默认500</li>
+ *     <li>depth: 请求体/响应体嵌套层数, 默认3</li>
+ *     <li>window: 同时进行的上传数, 默认32</li>
+ *     <li>rounds: 上传轮数, 第一轮创建, 之后为更新, 默认2</li>
+ *     <li>latency, jitter: 服务端每个请求的延迟和抖动(毫秒), 默认20, 10</li>
+ *     <li>errorRate: 服务端返回503的比例, 默认0</li>
+ * </ul>
+ * 示例: ./gradlew loadTest --args="platform=yapi apis=1000 latency=50 errorRate=0.01"
+ */
+public class UploadLoadTest {
+
+    private static final String ACCOUNT = "loadtest@localhost";
+    private static final String PASSWORD = "loadtest";
+
+    private final Map<String, String> options;
+
+    public UploadLoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            options.put(kv[0], kv.length > 1 ? kv[1] : "");
+        }
+        boolean ok = new UploadLoadTest(options).run();
+        System.exit(ok ? 0 : 1);
+    }
+
+    /**
+     * 执行压测, 所有上传均成功时返回true
+     */
+    public boolean run() throws Exception {
+        String platform = options.getOrDefault("platform", "all");
+        List<String> platforms = "all".equals(platform)
+                ? Arrays.asList("yapi", "rap2", "eolink", "apifox", "showdoc")
+                : Arrays.asList(platform.split(","));
+        boolean ok = true;
+        for (String name : platforms) {
+            ok &= runPlatform(name.trim());
+        }
+        return ok;
+    }
+
+    private boolean runPlatform(String platform) throws Exception {
+        try (StubServer stub = createStub(platform)) {
+            stub.latency(intOption("latency", 20), intOption("jitter", 10))
+                    .errorRate(Double.parseDouble(options.getOrDefault("errorRate", "0")))
+                    .start();
+            Function<Api, CompletableFuture<?>> uploader = createUploader(platform, stub.getUrl());
+            boolean ok = true;
+            int rounds = intOption("rounds", 2);
+            for (int round = 1; round <= rounds; round++) {
+                ok &= runRound(platform, round, stub, uploader);
+            }
+            return ok;
+        }
+    }
+
+    private boolean runRound(String platform, int round, StubServer stub,
+                             Function<Api, CompletableFuture<?>> uploader) throws InterruptedException {
+        int count = intOption("apis", 500);
+        int window = intOption("window", 32);
+        List<Api> apis = SyntheticApis.generate(count, intOption("depth", 3));
+
+        HttpStats.reset();
+        long requestsBefore = stub.getTotalRequests();
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong failures = new AtomicLong();
+        Semaphore permits = new Semaphore(window);
+        CountDownLatch done = new CountDownLatch(apis.size());
+
+        long start = System.nanoTime();
+        for (Api api : apis) {
+            permits.acquire();
+            long submitted = System.nanoTime();
+            CompletableFuture<?> future;
+            try {
+                future = uploader.apply(api);
+            } catch (RuntimeException e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            future.whenComplete((v, e) -> {
+                latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - submitted));
+                if (e != null) {
+                    if (failures.getAndIncrement() == 0) {
+                        System.err.println("[" + platform + "] first failure: " + AsyncCalls.unwrap(e));
+                    }
+                }
+                permits.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("== %s round %d: apis=%d window=%d%n", platform, round, apis.size(), window);
+        System.out.printf("throughput: %.1f apis/s, elapsed %.2fs, failures %d%n",
+                apis.size() / seconds, seconds, failures.get());
+        System.out.printf("upload latency(ms): p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                latency.getPercentile(50) / 1000.0, latency.getPercentile(90) / 1000.0,
+                latency.getPercentile(99) / 1000.0, latency.getMax() / 1000.0);
+        long requests = stub.getTotalRequests() - requestsBefore;
+        System.out.printf("server requests: %d (%.2f per api)%n", requests, (double) requests / apis.size());
+        stub.getRequestCounts().forEach((route, n) -> System.out.printf("  %-60s %d%n", route, n));
+        System.out.println(HttpStats.format());
+        return failures.get() == 0;
+    }
+
+    private static StubServer createStub(String platform) throws IOException {
+        switch (platform) {
+            case "yapi":
+                return new YapiStub();
+            case "rap2":
+                return new Rap2Stub();
+            case "eolink":
+                return new EolinkStub();
+            case "apifox":
+                return new ApifoxStub();
+            case "showdoc":
+                return new ShowdocStub();
+            default:
+                throw new IllegalArgumentException("unknown platform: " + platform);
+        }
+    }
+
+    private static Function<Api, CompletableFuture<?>> createUploader(String platform, String url) {
+        switch (platform) {
+            case "yapi": {
+                YapiUploader uploader = new YapiUploader(new YapiClient(url, ACCOUNT, PASSWORD, LoginWay.DEFAULT,
+                        null));
+                return api -> uploader.uploadAsync(1, api);
+            }
+            case "rap2": {
+                Rap2Uploader uploader = new Rap2Uploader(new Rap2Client(url, ACCOUNT, PASSWORD, null, null));
+                return api -> uploader.uploadAsync(1L, api);
+            }
+            case "eolink": {
+                EolinkUploader uploader = new EolinkUploader(new EolinkClient(url, url, ACCOUNT, PASSWORD, null));
+                return api -> uploader.uploadAsync("project", api);
+            }
+            case "apifox": {
+                ApifoxUploader uploader = new ApifoxUploader(new ApifoxClient(url, ACCOUNT, PASSWORD, null, 1L));
+                return api -> uploader.uploadAsync(1L, api);
+            }
+            case "showdoc": {
+                ShowdocUploader uploader = new ShowdocUploader(new ShowdocClient(url, ACCOUNT, PASSWORD));
+                return api -> uploader.uploadAsync("1", api);
+            }
+            default:
+                throw new IllegalArgumentException("unknown platform: " + platform);
+        }
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null || value.isEmpty() ? defaultValue : Integer.parseInt(value);
+    }
+}
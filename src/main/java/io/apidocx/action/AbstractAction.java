@@ -4,47 +4,71 @@ import static io.apidocx.base.util.NotificationUtils.notifyError;
 import static io.apidocx.base.util.NotificationUtils.notifyInfo;
 import static java.lang.String.format;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.AtomicDouble;
 import com.intellij.notification.NotificationType;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.apidocx.base.sdk.http.AsyncCalls;
+import io.apidocx.base.sdk.http.CircuitOpenException;
 import io.apidocx.base.util.ConcurrentUtils;
+import io.apidocx.base.util.HttpStatsReporter;
 import io.apidocx.base.util.NotificationUtils;
 import io.apidocx.base.util.PsiFileUtils;
+import io.apidocx.base.util.StartupTimings;
 import io.apidocx.config.ApidocxConfig;
+import io.apidocx.config.ApidocxConfigService;
 import io.apidocx.config.ApidocxConfigUtils;
+import io.apidocx.config.ApidocxSettings;
 import io.apidocx.config.DefaultConstants;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
 import io.apidocx.parse.ApiParser;
 import io.apidocx.parse.model.ClassApiData;
 import io.apidocx.parse.model.MethodApiData;
+import io.apidocx.parse.profile.ParseProfileReporter;
+import io.apidocx.parse.profile.ParseProfiler;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.jetbrains.annotations.NotNull;
@@ -54,6 +78,22 @@ import org.jetbrains.annotations.NotNull;
  */
 public abstract class AbstractAction extends AnAction {
 
+    /**
+     * 批量解析时并行解析的模块数
+     */
+    private static final int PARSE_POOL_SIZE = 4;
+
+    /**
+     * 批量解析共享线程池, 基于平台应用线程池, 空闲时不占用线程
+     */
+    private static final ExecutorService PARSE_EXECUTOR =
+            AppExecutorUtil.createBoundedApplicationPoolExecutor("Apidocx Parse", PARSE_POOL_SIZE);
+
+    /**
+     * 上传时同时进行中的接口数
+     */
+    private static final int MAX_UPLOADS_IN_FLIGHT = 16;
+
     /**
      * 配置文件是否必须
      */
@@ -69,6 +109,7 @@ public abstract class AbstractAction extends AnAction {
 
     @Override
     public void actionPerformed(AnActionEvent event) {
+        StartupTimings.mark(StartupTimings.FIRST_ACTION);
         // make sure documents all saved before refresh v-files in sync/recursive.
         FileDocumentManager.getInstance().saveAllDocuments();
         EventData data = EventData.of(event);
@@ -86,13 +127,24 @@ public abstract class AbstractAction extends AnAction {
             return;
         }
         // 3.解析文档
+        if (data.isBatch()) {
+            parseBatchAsync(data, config);
+            return;
+        }
         StepResult<List<Api>> apisResult = parse(data, config);
         if (!apisResult.isContinue()) {
             return;
         }
         // 4.文档处理
         List<Api> apis = apisResult.getData();
+        doHandle(event, config, apis);
+    }
+
+    private void doHandle(AnActionEvent event, ApidocxConfig config, List<Api> apis) {
+        StartupTimings.mark(StartupTimings.FIRST_ACTION_PARSED);
         handle(event, config, apis);
+        StartupTimings.mark(StartupTimings.FIRST_ACTION_HANDLED);
+        StartupTimings.report();
     }
 
     /**
@@ -108,10 +160,50 @@ public abstract class AbstractAction extends AnAction {
     public abstract void handle(AnActionEvent event, ApidocxConfig config, List<Api> apis);
 
     /**
-     * 解析文档模型数据
+     * 批量流式处理: 接口在后台任务迭代时逐个文件解析, 处理过的接口不再保留, 在{@link #isStreamHandle()}为true时调用
+     */
+    protected void handleStream(AnActionEvent event, ApidocxConfig config, Iterator<Api> apis) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * 批量处理时是否边解析边处理, 否则解析完所有文件后调用{@link #handle}
+     */
+    protected boolean isStreamHandle() {
+        return false;
+    }
+
+    /**
+     * 批量处理时是否按模块分别处理(各模块使用自己的配置), 否则合并所有接口以当前模块配置处理
+     */
+    protected boolean isHandlePerModule() {
+        return false;
+    }
+
+    /**
+     * 文档处理需要的可选属性, 未声明的属性不会解析
+     */
+    protected Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.all();
+    }
+
+    /**
+     * 解析文档模型数据, 开启剖析时输出解析耗时
      */
     private StepResult<List<Api>> parse(EventData data, ApidocxConfig config) {
-        ApiParser parser = new ApiParser(data.project, data.module, config);
+        if (!ApidocxSettings.getInstance().isProfileEnabled()) {
+            return doParse(data, config);
+        }
+        ParseProfiler.start();
+        try {
+            return doParse(data, config);
+        } finally {
+            ParseProfileReporter.report(data.project, ParseProfiler.stop());
+        }
+    }
+
+    private StepResult<List<Api>> doParse(EventData data, ApidocxConfig config) {
+        ApiParser parser = new ApiParser(data.project, data.module, config, getRequiredAttributes());
         // 选中方法
         if (data.selectedMethod != null) {
             MethodApiData methodData = parser.parse(data.selectedMethod);
@@ -141,30 +233,204 @@ public abstract class AbstractAction extends AnAction {
             }
             return StepResult.ok(controllerData.getApis());
         }
+        return StepResult.stop();
+    }
 
-        // 批量
-        List<PsiClass> controllers = PsiFileUtils.getPsiClassByFile(data.selectedJavaFiles);
-        if (controllers.isEmpty()) {
-            NotificationUtils.notifyWarning(DefaultConstants.NAME, "Not found valid controller class");
-            return StepResult.stop();
+    /**
+     * 批量解析: 选中的文件按所属模块分组, 各模块使用自己的配置; 解析前对各模块配置执行一次前置检查,
+     * 然后各模块并行解析. 以文件为单位执行可中断读操作, 遇到写操作时让出并仅重试当前文件, 已解析结果保留.
+     */
+    private void parseBatchAsync(EventData data, ApidocxConfig config) {
+        ProgressManager.getInstance().run(new Task.Backgroundable(data.project, DefaultConstants.NAME, true) {
+
+            private final Map<Module, ModuleBatch> batches = new LinkedHashMap<>();
+            private final List<String> skippedModules = Lists.newArrayList();
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(true);
+                ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(data.project);
+                Set<Module> skipped = Sets.newHashSet();
+                Iterator<VirtualFile> files = PsiFileUtils.getJavaFiles(data.selectedFiles).iterator();
+                while (files.hasNext()) {
+                    indicator.checkCanceled();
+                    VirtualFile file = files.next();
+                    Module module = ReadAction.compute(() -> fileIndex.getModuleForFile(file));
+                    if (module == null || skipped.contains(module)) {
+                        continue;
+                    }
+                    ModuleBatch batch = batches.get(module);
+                    if (batch == null) {
+                        ApidocxConfig moduleConfig = module.equals(data.module) ? config
+                                : resolveModuleConfig(data.project, module);
+                        if (moduleConfig == null) {
+                            skipped.add(module);
+                            skippedModules.add(module.getName());
+                            continue;
+                        }
+                        batch = new ModuleBatch(module, moduleConfig);
+                        batches.put(module, batch);
+                    }
+                    batch.files.add(file);
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                if (!skippedModules.isEmpty()) {
+                    NotificationUtils.notifyWarning(DefaultConstants.NAME,
+                            "Skipped modules without valid config file .yapix: " + String.join(", ", skippedModules));
+                }
+                // 前置检查: 当前模块配置已检查, 其他模块配置各检查一次, 任一不通过时不再继续, 避免连续弹出对话框
+                if (isHandlePerModule()) {
+                    for (ModuleBatch batch : batches.values()) {
+                        if (batch.config != config && !before(data.event, batch.config)) {
+                            return;
+                        }
+                    }
+                }
+                // 剖析时解析完成后再处理, 单独统计解析耗时
+                if (isStreamHandle() && !ApidocxSettings.getInstance().isProfileEnabled()) {
+                    handleStreamBatches(data, config, Lists.newArrayList(batches.values()));
+                } else {
+                    parseModulesAsync(data, config, Lists.newArrayList(batches.values()));
+                }
+            }
+        });
+    }
+
+    private void handleStreamBatches(EventData data, ApidocxConfig config, List<ModuleBatch> batches) {
+        StartupTimings.mark(StartupTimings.FIRST_ACTION_PARSED);
+        if (!isHandlePerModule()) {
+            handleStream(data.event, config, new BatchApiIterator(data.project, batches, null));
+        } else {
+            for (ModuleBatch batch : batches) {
+                handleStream(data.event, batch.config,
+                        new BatchApiIterator(data.project, Lists.newArrayList(batch), batch.module.getName()));
+            }
         }
-        List<Api> apis = Lists.newLinkedList();
-        for (PsiClass controller : controllers) {
-            ClassApiData controllerData = parser.parse(controller);
-            if (!controllerData.isValid()) {
-                continue;
+        StartupTimings.mark(StartupTimings.FIRST_ACTION_HANDLED);
+        StartupTimings.report();
+    }
+
+    private void parseModulesAsync(EventData data, ApidocxConfig config, List<ModuleBatch> batches) {
+        ProgressManager.getInstance().run(new Task.Backgroundable(data.project, DefaultConstants.NAME, true) {
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(true);
+                boolean profile = ApidocxSettings.getInstance().isProfileEnabled();
+                if (profile) {
+                    ParseProfiler.start();
+                }
+                try {
+                    // 剖析数据按线程收集, 开启时在当前线程依次解析
+                    parseModules(indicator, !profile && batches.size() > 1);
+                } finally {
+                    if (profile) {
+                        ParseProfileReporter.report(data.project, ParseProfiler.stop());
+                    }
+                }
             }
-            if (config.isStrict() && StringUtils.isEmpty(controllerData.getDeclaredCategory())) {
-                continue;
+
+            private void parseModules(ProgressIndicator indicator, boolean parallel) {
+                PsiManager psiManager = PsiManager.getInstance(data.project);
+                AtomicInteger count = new AtomicInteger();
+                if (!parallel) {
+                    batches.forEach(batch -> parseModule(batch, psiManager, indicator, count));
+                    return;
+                }
+                List<Future<?>> futures = Lists.newArrayListWithExpectedSize(batches.size());
+                try {
+                    for (ModuleBatch batch : batches) {
+                        futures.add(PARSE_EXECUTOR.submit(() -> parseModule(batch, psiManager, indicator, count)));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                } catch (InterruptedException e) {
+                    throw new ProcessCanceledException(e);
+                } catch (ExecutionException e) {
+                    ExceptionUtils.rethrow(e.getCause());
+                } finally {
+                    // 取消或失败时不再解析其余模块
+                    futures.forEach(future -> future.cancel(true));
+                }
             }
-            List<Api> controllerApis = controllerData.getApis();
-            if (config.isStrict()) {
-                controllerApis = controllerApis.stream().filter(o -> StringUtils.isNotEmpty(o.getSummary()))
-                        .collect(Collectors.toList());
+
+            private void parseModule(ModuleBatch batch, PsiManager psiManager, ProgressIndicator indicator,
+                                     AtomicInteger count) {
+                ApiParser parser = new ApiParser(data.project, batch.module, batch.config, getRequiredAttributes());
+                for (VirtualFile file : batch.files) {
+                    indicator.checkCanceled();
+                    indicator.setText(format("Parsing [%d] %s", count.incrementAndGet(), file.getName()));
+                    List<Api> fileApis = ReadAction.nonBlocking(() -> parseFile(parser, psiManager, file))
+                            .inSmartMode(data.project)
+                            .wrapProgress(indicator)
+                            .executeSynchronously();
+                    if (fileApis != null) {
+                        batch.controllers++;
+                        batch.apis.addAll(fileApis);
+                    }
+                }
             }
-            apis.addAll(controllerApis);
+
+            @Override
+            public void onSuccess() {
+                int controllers = batches.stream().mapToInt(batch -> batch.controllers).sum();
+                if (controllers == 0) {
+                    NotificationUtils.notifyWarning(DefaultConstants.NAME, "Not found valid controller class");
+                    return;
+                }
+                if (!isHandlePerModule()) {
+                    List<Api> apis = batches.stream()
+                            .flatMap(batch -> batch.apis.stream())
+                            .collect(Collectors.toList());
+                    doHandle(data.event, config, apis);
+                    return;
+                }
+                for (ModuleBatch batch : batches) {
+                    if (!batch.apis.isEmpty()) {
+                        doHandle(data.event, batch.config, batch.apis);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 获取模块配置, 配置文件必须但不存在或解析失败时返回null
+     */
+    private ApidocxConfig resolveModuleConfig(Project project, Module module) {
+        VirtualFile file = ReadAction.compute(() -> ApidocxConfigUtils.findConfigFile(project, module));
+        if (requiredConfigFile && (file == null || !file.exists())) {
+            return null;
+        }
+        try {
+            VirtualFile configFile = file != null && file.exists() ? file : null;
+            return ApidocxConfigService.getInstance(project).getConfig(configFile);
+        } catch (Exception e) {
+            notifyError(String.format("Config file error: %s", e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * 解析单个文件, 无公共类时返回null
+     */
+    private static List<Api> parseFile(ApiParser parser, PsiManager psiManager, VirtualFile file) {
+        if (!file.isValid()) {
+            return null;
         }
-        return StepResult.ok(apis);
+        PsiFile psiFile = psiManager.findFile(file);
+        if (!(psiFile instanceof PsiJavaFile)) {
+            return null;
+        }
+        PsiClass psiClass = PsiFileUtils.getPsiClassByFile((PsiJavaFile) psiFile);
+        if (psiClass == null) {
+            return null;
+        }
+        return parser.stream(Stream.of(psiClass)).collect(Collectors.toList());
     }
 
     /**
@@ -179,86 +445,117 @@ public abstract class AbstractAction extends AnAction {
                     new CreateConfigFileAction(data.project, data.module, "Create Config File"));
             return StepResult.stop();
         }
-        ApidocxConfig config = null;
-        if (file != null && file.exists()) {
-            try {
-                config = ApidocxConfigUtils.readConfig(file);
-            } catch (Exception e) {
-                notifyError(String.format("Config file error: %s", e.getMessage()));
-                return StepResult.stop();
-            }
-        }
-        if (config == null) {
-            config = new ApidocxConfig();
+        ApidocxConfig config;
+        try {
+            VirtualFile configFile = file != null && file.exists() ? file : null;
+            config = ApidocxConfigService.getInstance(data.project).getConfig(configFile);
+        } catch (Exception e) {
+            notifyError(String.format("Config file error: %s", e.getMessage()));
+            return StepResult.stop();
         }
-        config = ApidocxConfig.getMergedInternalConfig(config);
         return StepResult.ok(config);
     }
 
 
     /**
-     * 异步上传模板方法
+     * 异步上传模板方法: 在后台任务中迭代接口并提交上传, 进行中的接口数有上限, 流式迭代时边解析边上传
      *
      * @param project       项目
-     * @param apis          待处理接口列表
-     * @param apiHandle     单个接口数据消费者
+     * @param apis          待处理接口
+     * @param total         接口总数, 流式迭代时未知为-1
+     * @param apiHandle     单个接口异步上传
      * @param afterCallback 所有接口列表处理完毕后的回调执行，用于关闭资源
      */
-    protected void handleUploadAsync(Project project, List<Api> apis, Function<Api, ApiUploadResult> apiHandle,
+    protected void handleUploadAsync(Project project, Iterator<Api> apis, int total,
+                                     Function<Api, CompletableFuture<ApiUploadResult>> apiHandle,
                                      Supplier<?> afterCallback) {
         // 异步处理
         ProgressManager.getInstance().run(new Task.Backgroundable(project, DefaultConstants.NAME) {
             @Override
             public void run(@NotNull ProgressIndicator indicator) {
-                indicator.setIndeterminate(false);
-                int poolSize = apis.size() == 1 ? 1 : 4;
-                // 进度和并发
-                Semaphore semaphore = new Semaphore(poolSize);
-                ExecutorService threadPool = Executors.newFixedThreadPool(poolSize);
-                double step = 1.0 / apis.size();
+                indicator.setIndeterminate(total < 0);
+                // 进度和并发: 限制进行中的接口数, 请求在共享线程池中异步执行
+                Semaphore semaphore = new Semaphore(total == 1 ? 1 : MAX_UPLOADS_IN_FLIGHT);
+                double step = 1.0 / Math.max(total, 1);
                 AtomicInteger count = new AtomicInteger();
                 AtomicDouble fraction = new AtomicDouble();
+                // 熔断: 服务不可用时停止提交, 后续失败只汇总通知一次
+                AtomicReference<CircuitOpenException> circuitOpen = new AtomicReference<>();
+                AtomicInteger suppressed = new AtomicInteger();
 
                 List<ApiUploadResult> urls = null;
                 try {
-                    List<Future<ApiUploadResult>> futures = Lists.newArrayListWithExpectedSize(apis.size());
-                    for (int i = 0; i < apis.size() && !indicator.isCanceled(); i++) {
-                        Api api = apis.get(i);
+                    List<Future<ApiUploadResult>> futures = Lists.newArrayList();
+                    while (!indicator.isCanceled() && circuitOpen.get() == null && hasNext(apis)) {
+                        Api api = apis.next();
                         semaphore.acquire();
-                        Future<ApiUploadResult> future = threadPool.submit(() -> {
-                            try {
-                                // 上传
-                                String text = format("[%d/%d] %s %s", count.incrementAndGet(), apis.size(),
-                                        api.getMethod(), api.getPath());
-                                indicator.setText(text);
-                                return apiHandle.apply(api);
-                            } catch (Exception e) {
-                                notifyError(
-                                        String.format("Upload failed: [%s %s]", api.getMethod(), api.getPath()),
-                                        ExceptionUtils.getStackTrace(e));
-                            } finally {
+                        // 上传
+                        String text = total < 0
+                                ? format("[%d] %s %s", count.incrementAndGet(), api.getMethod(), api.getPath())
+                                : format("[%d/%d] %s %s", count.incrementAndGet(), total, api.getMethod(),
+                                api.getPath());
+                        indicator.setText(text);
+                        CompletableFuture<ApiUploadResult> future;
+                        try {
+                            future = apiHandle.apply(api);
+                        } catch (Exception e) {
+                            future = new CompletableFuture<>();
+                            future.completeExceptionally(e);
+                        }
+                        futures.add(future.handle((result, e) -> {
+                            if (e != null) {
+                                Throwable cause = AsyncCalls.unwrap(e);
+                                CircuitOpenException open = findCircuitOpen(cause);
+                                if (open != null) {
+                                    circuitOpen.compareAndSet(null, open);
+                                }
+                                if (circuitOpen.get() != null) {
+                                    suppressed.incrementAndGet();
+                                } else {
+                                    notifyError(
+                                            String.format("Upload failed: [%s %s]", api.getMethod(), api.getPath()),
+                                            ExceptionUtils.getStackTrace(cause));
+                                }
+                            }
+                            if (total > 0) {
                                 indicator.setFraction(fraction.addAndGet(step));
-                                semaphore.release();
                             }
-                            return null;
-                        });
-                        futures.add(future);
+                            semaphore.release();
+                            return e != null ? null : result;
+                        }));
                     }
                     urls = ConcurrentUtils.waitFuturesSilence(futures).stream()
                             .filter(Objects::nonNull).collect(Collectors.toList());
                 } catch (InterruptedException e) {
                     // ignore
                 } finally {
+                    if (circuitOpen.get() != null) {
+                        String skipped = total < 0
+                                ? format("%d apis failed, the rest were not uploaded", suppressed.get())
+                                : format("%d of %d apis were not uploaded", suppressed.get() + total - count.get(),
+                                total);
+                        notifyError("Upload aborted", circuitOpen.get().getMessage() + "<br>" + skipped);
+                    }
                     if (urls != null && !urls.isEmpty()) {
                         ApiUploadResult uploadResult = urls.get(0);
                         String url = urls.size() == 1 ? uploadResult.getApiUrl() : uploadResult.getCategoryUrl();
-                        if (url != null && url.length() > 0) {
-                            notifyInfo("Upload successful", format("<a href=\"%s\">%s</a>", url, url));
+                        String link = url != null && url.length() > 0
+                                ? format("<a href=\"%s\">%s</a>", url, url) : null;
+                        if (circuitOpen.get() != null) {
+                            // 熔断后只有部分接口上传成功
+                            String uploaded = total < 0 ? format("%d apis were uploaded", urls.size())
+                                    : format("%d of %d apis were uploaded", urls.size(), total);
+                            notifyInfo("Upload partially successful",
+                                    link != null ? uploaded + "<br>" + link : uploaded);
+                        } else if (link != null) {
+                            notifyInfo("Upload successful", link);
                         } else {
                             notifyInfo("Upload successful");
                         }
                     }
-                    threadPool.shutdown();
+                    if (ApidocxSettings.getInstance().isProfileEnabled()) {
+                        HttpStatsReporter.report();
+                    }
                     if (afterCallback != null) {
                         afterCallback.get();
                     }
@@ -267,6 +564,25 @@ public abstract class AbstractAction extends AnAction {
         });
     }
 
+    /**
+     * 流式迭代时取消会中断当前文件的解析, 此时不再提交, 等待已提交的接口完成
+     */
+    private static boolean hasNext(Iterator<Api> apis) {
+        try {
+            return apis.hasNext();
+        } catch (ProcessCanceledException e) {
+            return false;
+        }
+    }
+
+    private static CircuitOpenException findCircuitOpen(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitOpenException) {
+                return (CircuitOpenException) cause;
+            }
+        }
+        return null;
+    }
 
     public static class ApiUploadResult {
 
@@ -292,6 +608,74 @@ public abstract class AbstractAction extends AnAction {
         }
     }
 
+    /**
+     * 批量流式解析的接口迭代器: 迭代时以文件为单位执行可中断读操作, 只保留当前文件的接口
+     */
+    private class BatchApiIterator extends AbstractIterator<Api> {
+
+        private final Project project;
+        private final PsiManager psiManager;
+        private final Iterator<ModuleBatch> batches;
+        private final String moduleName;
+        private ApiParser parser;
+        private Iterator<VirtualFile> files = Collections.emptyIterator();
+        private Iterator<Api> apis = Collections.emptyIterator();
+        private int controllers = 0;
+
+        BatchApiIterator(Project project, List<ModuleBatch> batches, String moduleName) {
+            this.project = project;
+            this.psiManager = PsiManager.getInstance(project);
+            this.batches = batches.iterator();
+            this.moduleName = moduleName;
+        }
+
+        @Override
+        protected Api computeNext() {
+            while (!apis.hasNext()) {
+                while (!files.hasNext()) {
+                    if (!batches.hasNext()) {
+                        if (controllers == 0) {
+                            NotificationUtils.notifyWarning(DefaultConstants.NAME, moduleName == null
+                                    ? "Not found valid controller class"
+                                    : "Not found valid controller class in module: " + moduleName);
+                        }
+                        return endOfData();
+                    }
+                    ModuleBatch batch = batches.next();
+                    parser = new ApiParser(project, batch.module, batch.config, getRequiredAttributes());
+                    files = batch.files.iterator();
+                }
+                ProgressManager.checkCanceled();
+                VirtualFile file = files.next();
+                List<Api> fileApis = ReadAction.nonBlocking(() -> parseFile(parser, psiManager, file))
+                        .inSmartMode(project)
+                        .executeSynchronously();
+                if (fileApis != null) {
+                    controllers++;
+                    apis = fileApis.iterator();
+                }
+            }
+            return apis.next();
+        }
+    }
+
+    /**
+     * 同一模块下的批量解析数据
+     */
+    private static class ModuleBatch {
+
+        private final Module module;
+        private final ApidocxConfig config;
+        private final List<VirtualFile> files = Lists.newArrayList();
+        private final List<Api> apis = Lists.newArrayList();
+        private int controllers = 0;
+
+        ModuleBatch(Module module, ApidocxConfig config) {
+            this.module = module;
+            this.config = config;
+        }
+    }
+
     static class EventData {
 
         /**
@@ -313,11 +697,6 @@ public abstract class AbstractAction extends AnAction {
          */
         VirtualFile[] selectedFiles;
 
-        /**
-         * 选择的Java文件
-         */
-        List<PsiJavaFile> selectedJavaFiles;
-
         /**
          * 选择类
          */
@@ -328,11 +707,18 @@ public abstract class AbstractAction extends AnAction {
          */
         PsiMethod selectedMethod;
 
+        /**
+         * 是否批量处理: 未选中类或方法
+         */
+        public boolean isBatch() {
+            return selectedClass == null && selectedMethod == null;
+        }
+
         /**
          * 是否应当继续解析处理
          */
         public boolean shouldHandle() {
-            return project != null && module != null && (selectedJavaFiles != null || selectedClass != null);
+            return project != null && module != null && (selectedFiles != null || selectedClass != null);
         }
 
         /**
@@ -344,9 +730,6 @@ public abstract class AbstractAction extends AnAction {
             data.project = event.getData(CommonDataKeys.PROJECT);
             data.module = event.getData(LangDataKeys.MODULE);
             data.selectedFiles = event.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
-            if (data.project != null && data.selectedFiles != null) {
-                data.selectedJavaFiles = PsiFileUtils.getPsiJavaFiles(data.project, data.selectedFiles);
-            }
             Editor editor = event.getDataContext().getData(CommonDataKeys.EDITOR);
             PsiFile editorFile = event.getDataContext().getData(CommonDataKeys.PSI_FILE);
             if (editor != null && editorFile != null) {
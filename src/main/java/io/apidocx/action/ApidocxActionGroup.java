@@ -4,6 +4,7 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.actionSystem.DefaultActionGroup;
 import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.actionSystem.UpdateInBackground;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
@@ -12,7 +13,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * 菜单分组
  */
-public class ApidocxActionGroup extends DefaultActionGroup {
+public class ApidocxActionGroup extends DefaultActionGroup implements UpdateInBackground {
 
     public static final String ACTION_TEXT = "Apidocx";
 
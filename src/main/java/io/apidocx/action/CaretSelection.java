@@ -0,0 +1,75 @@
+package io.apidocx.action;
+
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.util.PsiTreeUtil;
+import java.lang.ref.WeakReference;
+
+/**
+ * 编辑器光标所在的类/方法, 菜单刷新频繁, 按(文件, 修改版本, 光标位置)缓存最近一次结果.
+ */
+public final class CaretSelection {
+
+    private static final CaretSelection NONE = new CaretSelection(null, 0, -1, false, false);
+
+    private static volatile CaretSelection last = NONE;
+
+    private final WeakReference<PsiFile> file;
+    private final long modificationStamp;
+    private final int offset;
+    private final boolean inClass;
+    private final boolean inMethod;
+
+    private CaretSelection(PsiFile file, long modificationStamp, int offset, boolean inClass, boolean inMethod) {
+        this.file = new WeakReference<>(file);
+        this.modificationStamp = modificationStamp;
+        this.offset = offset;
+        this.inClass = inClass;
+        this.inMethod = inMethod;
+    }
+
+    /**
+     * 获取事件对应的光标上下文, 非编辑器事件返回null
+     */
+    public static CaretSelection of(AnActionEvent event) {
+        Editor editor = event.getData(CommonDataKeys.EDITOR);
+        PsiFile editorFile = event.getData(CommonDataKeys.PSI_FILE);
+        if (editor == null || editorFile == null) {
+            return null;
+        }
+        int offset = editor.getCaretModel().getOffset();
+        long modificationStamp = editorFile.getModificationStamp();
+        CaretSelection cached = last;
+        if (cached.file.get() == editorFile && cached.modificationStamp == modificationStamp
+                && cached.offset == offset) {
+            return cached;
+        }
+
+        PsiElement referenceAt = editorFile.findElementAt(offset);
+        PsiClass selectClass = PsiTreeUtil.getContextOfType(referenceAt, PsiClass.class);
+        PsiMethod selectMethod = selectClass != null ? PsiTreeUtil.getContextOfType(referenceAt, PsiMethod.class) : null;
+        CaretSelection selection = new CaretSelection(editorFile, modificationStamp, offset,
+                selectClass != null, selectMethod != null);
+        last = selection;
+        return selection;
+    }
+
+    /**
+     * 光标是否在类中
+     */
+    public boolean isInClass() {
+        return inClass;
+    }
+
+    /**
+     * 光标是否在方法中
+     */
+    public boolean isInMethod() {
+        return inMethod;
+    }
+}
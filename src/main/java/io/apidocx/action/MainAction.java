@@ -2,19 +2,14 @@ package io.apidocx.action;
 
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.actionSystem.CommonDataKeys;
-import com.intellij.openapi.editor.Editor;
-import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.openapi.actionSystem.UpdateInBackground;
 import io.apidocx.config.ApidocxSettings;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * 处理上传入口动作.
  */
-public class MainAction extends AnAction {
+public class MainAction extends AnAction implements UpdateInBackground {
 
     @Override
     public void actionPerformed(@NotNull AnActionEvent event) {
@@ -36,16 +31,7 @@ public class MainAction extends AnAction {
         }
 
         // 是否可见
-        boolean visible = false;
-        Editor editor = event.getDataContext().getData(CommonDataKeys.EDITOR);
-        PsiFile editorFile = event.getDataContext().getData(CommonDataKeys.PSI_FILE);
-        if (editor != null && editorFile != null) {
-            PsiElement referenceAt = editorFile.findElementAt(editor.getCaretModel().getOffset());
-            PsiClass selectClass = PsiTreeUtil.getContextOfType(referenceAt, PsiClass.class);
-            if (selectClass != null) {
-                visible = true;
-            }
-        }
-        event.getPresentation().setVisible(visible);
+        CaretSelection selection = CaretSelection.of(event);
+        event.getPresentation().setVisible(selection != null && selection.isInClass());
     }
 }
@@ -0,0 +1,30 @@
+package io.apidocx.action;
+
+import com.intellij.openapi.project.Project;
+import io.apidocx.config.ApidocxConfig;
+import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 支持自动同步的上传动作: 无界面交互的情况下上传接口.
+ */
+public interface SyncableAction {
+
+    /**
+     * 是否可直接上传: 配置完整且账户检查通过(有效期内不重复检查), 不弹出对话框, 在后台线程调用
+     */
+    boolean canSync(Project project, ApidocxConfig config);
+
+    /**
+     * 上传需要的可选属性, 自动同步时未声明的属性不会解析
+     */
+    Set<ApiAttribute> getRequiredAttributes();
+
+    /**
+     * 上传接口
+     */
+    void upload(Project project, ApidocxConfig config, List<Api> apis);
+
+}
@@ -3,20 +3,17 @@ package io.apidocx.base.sdk.apifox;
 import feign.Feign;
 import feign.Headers;
 import feign.Param;
-import feign.Request.Options;
 import feign.RequestLine;
-import feign.form.FormEncoder;
-import feign.gson.GsonDecoder;
-import feign.gson.GsonEncoder;
 import io.apidocx.base.sdk.apifox.model.ApiDetail;
 import io.apidocx.base.sdk.apifox.model.ApiFolder;
 import io.apidocx.base.sdk.apifox.model.ApiTreeItem;
 import io.apidocx.base.sdk.apifox.model.CreateFolderRequest;
 import io.apidocx.base.sdk.apifox.model.LoginRequest;
 import io.apidocx.base.sdk.apifox.model.LoginResponse;
+import io.apidocx.base.sdk.http.HttpTransport;
+import io.apidocx.base.sdk.http.JsonCodecs;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 
 @Headers({
@@ -26,10 +23,9 @@ import java.util.concurrent.TimeUnit;
 public interface ApifoxApi {
 
     static Feign.Builder feignBuilder() {
-        return Feign.builder()
-                .options(new Options(10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, true))
-                .encoder(new FormEncoder(new GsonEncoder()))
-                .decoder(new GsonDecoder());
+        return HttpTransport.feignBuilder()
+                .encoder(JsonCodecs.encoder())
+                .decoder(JsonCodecs.decoder());
     }
 
     /**
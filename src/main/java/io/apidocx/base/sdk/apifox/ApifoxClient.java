@@ -1,6 +1,5 @@
 package io.apidocx.base.sdk.apifox;
 
-import feign.RetryableException;
 import io.apidocx.base.sdk.apifox.model.ApiDetail;
 import io.apidocx.base.sdk.apifox.model.ApiFolder;
 import io.apidocx.base.sdk.apifox.model.ApiTreeItem;
@@ -10,10 +9,15 @@ import io.apidocx.base.sdk.apifox.model.LoginResponse;
 import io.apidocx.base.sdk.apifox.model.LoginType;
 import io.apidocx.base.sdk.apifox.model.TestResult;
 import io.apidocx.base.sdk.apifox.model.TestResult.Code;
+import io.apidocx.base.sdk.http.AsyncCalls;
+import io.apidocx.base.sdk.http.BeanFormCodec;
+import io.apidocx.base.sdk.http.SessionToken;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 
@@ -26,7 +30,7 @@ public class ApifoxClient {
     private final String password;
     private final ApifoxApi apifoxApi;
     private final Long projectId;
-    private String accessToken;
+    private final SessionToken session;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String PROJECT_ID_HEADER = "X-Project-Id";
@@ -36,7 +40,7 @@ public class ApifoxClient {
         this.url = url;
         this.account = account;
         this.password = password;
-        this.accessToken = accessToken;
+        this.session = new SessionToken(accessToken, this::doLogin);
         this.projectId = projectId;
         this.apifoxApi = createApiClient(this.url);
     }
@@ -46,7 +50,7 @@ public class ApifoxClient {
         try {
             apifoxApi.getCurrentUser();
             result.setCode(Code.OK);
-            result.setAccessToken(this.accessToken);
+            result.setAccessToken(session.peek());
         } catch (ApifoxException e) {
             result.setMessage(e.getMessage());
             if (e.isNeedAuth() || e.isAccountPasswordError()) {
@@ -58,6 +62,10 @@ public class ApifoxClient {
         return result;
     }
 
+    public String getAccessToken() {
+        return session.peek();
+    }
+
     /**
      * 获取接口目录列表
      */
@@ -88,7 +96,7 @@ public class ApifoxClient {
      * 添加或修改接口
      */
     public Long saveApiDetail(ApiDetail request) {
-        Map<String, String> map = InternalUtils.beanToMap(request);
+        Map<String, String> map = BeanFormCodec.encode(request);
         if (request.getId() == null) {
             Response<ApiDetail> response = apifoxApi.createApiDetail(map);
             return response.getData().getId();
@@ -105,6 +113,13 @@ public class ApifoxClient {
         return apifoxApi.getApiTreeList(projectId).getData();
     }
 
+    /**
+     * 异步调用, 在共享线程池中执行
+     */
+    public <T> CompletableFuture<T> async(Function<ApifoxClient, T> call) {
+        return AsyncCalls.supplyAsync(() -> call.apply(this));
+    }
+
     private ApifoxApi createApiClient(String url) {
         return ApifoxApi.feignBuilder()
                 .requestInterceptor(template -> {
@@ -113,7 +128,7 @@ public class ApifoxClient {
                         template.header(PROJECT_ID_HEADER, String.valueOf(projectId));
                     }
                     if (!LOGIN_PATH.equals(template.path())) {
-                        template.header(AUTHORIZATION_HEADER, getOrRefreshAccessToken(false));
+                        session.apply(template, AUTHORIZATION_HEADER);
                     }
                 })
                 .responseInterceptor(ctx -> {
@@ -128,36 +143,37 @@ public class ApifoxClient {
                     return value;
                 })
                 .errorDecoder((methodKey, response) -> {
-                    if (response.status() == 401) {
-                        getOrRefreshAccessToken(true);
-                        return new RetryableException(response.status(), "Unauthorized", response.request().httpMethod(), null, response.request());
+                    String requestPath = InternalUtils.getUrlPath(response.request().url());
+                    if (response.status() == 401 && !LOGIN_PATH.equals(requestPath)) {
+                        // 只有一个线程重新登录, 其他线程复用新凭证重试
+                        return session.rejected(response.request(), AUTHORIZATION_HEADER,
+                                new ApifoxException(requestPath, response.status() + "", response.reason()));
                     }
-                    String path = InternalUtils.getUrlPath(response.request().url());
-                    return new ApifoxException(path, response.status() + "", response.reason());
+                    return new ApifoxException(requestPath, response.status() + "", response.reason());
                 })
                 .target(ApifoxApi.class, url);
     }
 
-    private String getOrRefreshAccessToken(boolean force) {
-        if (force || accessToken == null) {
-            LoginType loginType = StringUtils.isNumeric(this.account) ? LoginType.MobilePassword : LoginType.EmailPassword;
-            String account = this.account;
-            if (loginType == LoginType.MobilePassword) {
-                account = "+86 " + account;
-            }
-            LoginRequest loginRequest = LoginRequest.builder()
-                    .loginType(loginType.name())
-                    .account(account)
-                    .password(this.password)
-                    .build();
-            Response<LoginResponse> response = apifoxApi.login(loginRequest);
-            LoginResponse loginResponse = response.getData();
-            if (!response.isSuccess()) {
-                throw new ApifoxException(LOGIN_PATH, response.getErrorCode(), response.getErrorMessage());
-            }
-            this.accessToken = loginResponse.getAccessToken();
+    /**
+     * 登录并写入新凭证
+     */
+    private void doLogin() {
+        LoginType loginType = StringUtils.isNumeric(this.account) ? LoginType.MobilePassword : LoginType.EmailPassword;
+        String account = this.account;
+        if (loginType == LoginType.MobilePassword) {
+            account = "+86 " + account;
+        }
+        LoginRequest loginRequest = LoginRequest.builder()
+                .loginType(loginType.name())
+                .account(account)
+                .password(this.password)
+                .build();
+        Response<LoginResponse> response = apifoxApi.login(loginRequest);
+        LoginResponse loginResponse = response.getData();
+        if (!response.isSuccess()) {
+            throw new ApifoxException(LOGIN_PATH, response.getErrorCode(), response.getErrorMessage());
         }
-        return this.accessToken;
+        session.update(loginResponse.getAccessToken());
     }
 
 }
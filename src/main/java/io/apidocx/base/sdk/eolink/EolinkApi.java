@@ -3,9 +3,6 @@ package io.apidocx.base.sdk.eolink;
 import feign.Feign;
 import feign.Headers;
 import feign.RequestLine;
-import feign.form.FormEncoder;
-import feign.gson.GsonDecoder;
-import feign.gson.GsonEncoder;
 import io.apidocx.base.sdk.eolink.request.ApiListRequest;
 import io.apidocx.base.sdk.eolink.request.ApiListResponse;
 import io.apidocx.base.sdk.eolink.request.ApiRequest;
@@ -19,6 +16,8 @@ import io.apidocx.base.sdk.eolink.request.GroupListResponse;
 import io.apidocx.base.sdk.eolink.request.LoginRequest;
 import io.apidocx.base.sdk.eolink.request.LoginResponseData;
 import io.apidocx.base.sdk.eolink.request.SsoResponse;
+import io.apidocx.base.sdk.http.HttpTransport;
+import io.apidocx.base.sdk.http.JsonCodecs;
 import java.net.URI;
 import java.util.Map;
 
@@ -27,9 +26,9 @@ import java.util.Map;
 public interface EolinkApi {
 
     static Feign.Builder feignBuilder() {
-        return Feign.builder()
-                .encoder(new FormEncoder(new GsonEncoder()))
-                .decoder(new GsonDecoder());
+        return HttpTransport.feignBuilder()
+                .encoder(JsonCodecs.encoder())
+                .decoder(JsonCodecs.decoder());
     }
 
     /**
@@ -24,11 +24,15 @@ import io.apidocx.base.sdk.eolink.request.SsoResponse;
 import io.apidocx.base.sdk.eolink.request.TestResult;
 import io.apidocx.base.sdk.eolink.request.TestResult.Code;
 import io.apidocx.base.sdk.eolink.util.ApiConverter;
+import io.apidocx.base.sdk.http.AsyncCalls;
+import io.apidocx.base.sdk.http.BeanFormCodec;
+import io.apidocx.base.sdk.http.SessionToken;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import lombok.Getter;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -55,8 +59,10 @@ public class EolinkClient {
      */
     private final String password;
 
-    @Getter
-    private String accessToken;
+    /**
+     * 登录凭证
+     */
+    private final SessionToken session;
 
     private UserInfo userInfo;
 
@@ -68,7 +74,7 @@ public class EolinkClient {
         this.url = url;
         this.account = account;
         this.password = password;
-        this.accessToken = accessToken;
+        this.session = new SessionToken(accessToken, this::doLogin);
         this.eolinkApi = createApiClient(this.url);
     }
 
@@ -88,7 +94,7 @@ public class EolinkClient {
         if (exception != null && exception.isNeedAuth()) {
             exception = null;
             try {
-                getOrRefreshAccessToken(true);
+                session.refresh(session.peek());
             } catch (EolinkException e) {
                 exception = e;
             }
@@ -96,7 +102,7 @@ public class EolinkClient {
 
         if (exception == null) {
             result.setCode(Code.OK);
-            result.setCookies(this.accessToken);
+            result.setCookies(session.peek());
         } else {
             result.setMessage(exception.getMessage());
             if (exception.isNeedAuth() || exception.isAccountPasswordError()) {
@@ -108,6 +114,10 @@ public class EolinkClient {
         return result;
     }
 
+    public String getAccessToken() {
+        return session.peek();
+    }
+
     /**
      * 添加分组
      */
@@ -162,7 +172,7 @@ public class EolinkClient {
     public ApiSaveResponse saveApi(String projectHashKey, ApiInfo api) {
         ApiSaveRequest request = ApiConverter.convertApiSaveRequest(projectHashKey, api);
         request.setSpaceKey(getSpaceKey());
-        Map<String, String> params = InternalUtils.beanToMap(request);
+        Map<String, String> params = BeanFormCodec.encode(request);
 
         if (request.getApiID() == null) {
             return eolinkApi.createApi(params);
@@ -185,13 +195,20 @@ public class EolinkClient {
         return this.userInfo.getSpaceKey();
     }
 
+    /**
+     * 异步调用, 在共享线程池中执行
+     */
+    public <T> CompletableFuture<T> async(Function<EolinkClient, T> call) {
+        return AsyncCalls.supplyAsync(() -> call.apply(this));
+    }
+
     private EolinkApi createApiClient(String url) {
         return EolinkApi.feignBuilder()
                 .requestInterceptor(template -> {
                     // 请求设置鉴权信息
                     boolean isLoginRequest = EolinkConstants.isLoginPath(template.url());
                     if (!isLoginRequest) {
-                        template.header("Authorization", getOrRefreshAccessToken(false));
+                        session.apply(template, "Authorization");
                     }
                 })
                 .responseInterceptor(ctx -> {
@@ -203,7 +220,12 @@ public class EolinkClient {
                     if (value instanceof Response) {
                         Response responseValue = (Response) value;
                         if (!responseValue.isSuccess()) {
-                            throw new EolinkException(path, responseValue.getStatusCode());
+                            EolinkException e = new EolinkException(path, responseValue.getStatusCode());
+                            if (e.isNeedAuth() && !EolinkConstants.isLoginPath(requestUrl)) {
+                                // 只有一个线程重新登录, 其他线程复用新凭证重试
+                                throw session.rejected(response.request(), "Authorization", e);
+                            }
+                            throw e;
                         }
                     }
                     return value;
@@ -215,22 +237,13 @@ public class EolinkClient {
                 .target(EolinkApi.class, url);
     }
 
-    private String getOrRefreshAccessToken(boolean force) {
-        if (!force && this.accessToken != null && !this.accessToken.isEmpty()) {
-            return this.accessToken;
-        }
-        LoginResponseData authInfo = doLogin();
-        this.accessToken = authInfo.getJwt();
-        return this.accessToken;
-    }
-
-    private LoginResponseData doLogin() {
+    private void doLogin() {
         LoginRequest loginREquest = new LoginRequest();
         loginREquest.setPassword(this.password);
         loginREquest.setUsername(this.account);
 
         URI loginUri = URI.create(this.loginUrl + EolinkConstants.Login);
         SsoResponse<LoginResponseData> response = eolinkApi.login(loginUri, loginREquest);
-        return response.getData();
+        session.update(response.getData().getJwt());
     }
 }
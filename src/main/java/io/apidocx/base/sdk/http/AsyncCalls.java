@@ -0,0 +1,102 @@
+package io.apidocx.base.sdk.http;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 平台接口的异步调用: 所有客户端共享一个有界线程池, 调用方以{@link CompletableFuture}组合依赖调用.
+ * HTTP请求仍是阻塞的, 每个进行中的请求占用一个线程, 同时进行的请求数不超过线程数(默认8),
+ * 同一主机还受{@link HostLimitedClient}限制. 线程数可通过系统属性apidocx.http.asyncThreads调整.
+ */
+public final class AsyncCalls {
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(
+            Integer.getInteger("apidocx.http.asyncThreads", 8),
+            new ThreadFactoryBuilder().setNameFormat("apidocx-http-%d").setDaemon(true).build());
+
+    private AsyncCalls() {
+    }
+
+    /**
+     * 异步执行调用
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+
+    /**
+     * 按键共享进行中的调用: 同一键只执行一次, 失败时移除以便重试
+     */
+    public static <K, V> CompletableFuture<V> memoize(Map<K, CompletableFuture<V>> cache, K key,
+                                                       Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> future = cache.get(key);
+        if (future != null) {
+            return future;
+        }
+        CompletableFuture<V> created = new CompletableFuture<>();
+        future = cache.putIfAbsent(key, created);
+        if (future != null) {
+            return future;
+        }
+        try {
+            call.get().whenComplete((value, e) -> {
+                if (e != null) {
+                    cache.remove(key, created);
+                    created.completeExceptionally(e);
+                } else {
+                    created.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            cache.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * 关闭线程池, 插件卸载时调用
+     */
+    public static void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 等待结果, 调用异常原样抛出
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * 获取原始异常
+     */
+    public static RuntimeException unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new CompletionException(e);
+    }
+}
@@ -0,0 +1,121 @@
+package io.apidocx.base.sdk.http;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Bean与表单参数转换: 普通类型字段转为字符串, 其他字段转为Json字符串, 为null的字段省略.
+ * <p>
+ * 每个类的字段名、字段分类和读取句柄只解析一次并缓存, 编码时不再反射.
+ */
+public final class BeanFormCodec {
+
+    private static final Gson gson = new Gson();
+
+    /**
+     * 普通类型（非对象和数组）
+     */
+    private static final Set<Class<?>> SIMPLE_TYPES = ImmutableSet.of(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Boolean.class,
+            Character.class, String.class, java.util.Date.class, java.time.LocalDateTime.class,
+            java.time.LocalDate.class);
+
+    private static final ClassValue<List<FieldPlan>> PLANS = new ClassValue<List<FieldPlan>>() {
+        @Override
+        protected List<FieldPlan> computeValue(Class<?> type) {
+            return createPlan(type);
+        }
+    };
+
+    private BeanFormCodec() {
+    }
+
+    /**
+     * Bean转换为Map, 非普通类型字段转化为Json字符串, 为null的字段省略
+     */
+    public static Map<String, String> encode(Object bean) {
+        List<FieldPlan> plans = PLANS.get(bean.getClass());
+        Map<String, String> map = Maps.newHashMapWithExpectedSize(plans.size());
+        for (FieldPlan plan : plans) {
+            String value = plan.encode(bean);
+            if (value != null) {
+                map.put(plan.name, value);
+            }
+        }
+        return map;
+    }
+
+    private static List<FieldPlan> createPlan(Class<?> type) {
+        List<FieldPlan> plans = Lists.newArrayList();
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null && superclass != Object.class) {
+            plans.addAll(PLANS.get(superclass));
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                continue;
+            }
+            field.setAccessible(true);
+            try {
+                plans.add(new FieldPlan(resolveName(field), isSimple(field.getType()), lookup.unreflectGetter(field)));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return plans;
+    }
+
+    private static String resolveName(Field field) {
+        String name = "";
+        SerializedName annotation = field.getAnnotation(SerializedName.class);
+        if (annotation != null) {
+            name = annotation.value().trim();
+        }
+        return StringUtils.isEmpty(name) ? field.getName() : name;
+    }
+
+    private static boolean isSimple(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || SIMPLE_TYPES.contains(type);
+    }
+
+    private static class FieldPlan {
+
+        private final String name;
+        private final boolean simple;
+        private final MethodHandle getter;
+
+        FieldPlan(String name, boolean simple, MethodHandle getter) {
+            this.name = name;
+            this.simple = simple;
+            this.getter = getter;
+        }
+
+        String encode(Object bean) {
+            Object value;
+            try {
+                value = getter.invoke(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            if (value == null) {
+                return null;
+            }
+            return simple ? value.toString() : gson.toJson(value);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.apidocx.base.sdk.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按服务地址熔断的客户端.
+ * <ul>
+ *     <li>关闭: 正常发送请求, 连续失败(网络异常或5xx网关错误)达到阈值后打开</li>
+ *     <li>打开: 请求不发送, 直接抛出{@link CircuitOpenException}, 且不会被Feign重试</li>
+ *     <li>半开: 打开一段时间后只放行一个探测请求, 成功则关闭, 失败则重新打开</li>
+ * </ul>
+ */
+class CircuitBreakerClient implements Client {
+
+    private final Client delegate;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    CircuitBreakerClient(Client delegate, int failureThreshold, long openMillis) {
+        this.delegate = delegate;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    @Override
+    public Response execute(Request request, Options options) throws IOException {
+        String endpoint = HostLimitedClient.hostKey(request.url());
+        Circuit circuit = circuits.computeIfAbsent(endpoint, key -> new Circuit());
+        circuit.acquire(endpoint);
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException | RuntimeException e) {
+            circuit.onFailure();
+            throw e;
+        }
+        if (isServerUnavailable(response.status())) {
+            circuit.onFailure();
+        } else {
+            circuit.onSuccess();
+        }
+        return response;
+    }
+
+    private static boolean isServerUnavailable(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * 单个服务的熔断状态
+     */
+    private class Circuit {
+
+        private int failures;
+        private long openUntil;
+        private boolean probing;
+
+        synchronized void acquire(String endpoint) {
+            if (failures < failureThreshold) {
+                return;
+            }
+            if (probing || System.currentTimeMillis() < openUntil) {
+                throw new CircuitOpenException(endpoint, failures);
+            }
+            // 半开: 放行一个探测请求
+            probing = true;
+        }
+
+        synchronized void onSuccess() {
+            failures = 0;
+            probing = false;
+        }
+
+        synchronized void onFailure() {
+            failures++;
+            probing = false;
+            if (failures >= failureThreshold) {
+                openUntil = System.currentTimeMillis() + openMillis;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.apidocx.base.sdk.http;
+
+import lombok.Getter;
+
+/**
+ * 服务熔断中: 该服务连续请求失败, 请求未发送直接失败.
+ */
+@Getter
+public class CircuitOpenException extends RuntimeException {
+
+    /**
+     * 服务地址
+     */
+    private final String endpoint;
+
+    public CircuitOpenException(String endpoint, int failures) {
+        super(String.format("%s is unavailable after %d consecutive failures, requests are suspended", endpoint,
+                failures));
+        this.endpoint = endpoint;
+    }
+}
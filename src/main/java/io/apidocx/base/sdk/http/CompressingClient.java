@@ -0,0 +1,106 @@
+package io.apidocx.base.sdk.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 请求体压缩与大小报告.
+ * <ul>
+ *     <li>压缩: 启用后(每次请求时读取开关), 超过阈值的JSON/表单请求体声明gzip编码, 由{@link Client.Default}发送时压缩</li>
+ *     <li>回退: 服务端返回415时记住该主机不接受压缩请求体, 并以未压缩方式重发</li>
+ *     <li>报告: 以debug级别记录每个请求的请求体大小、是否压缩、状态码和耗时</li>
+ * </ul>
+ */
+class CompressingClient implements Client {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompressingClient.class);
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final int UNSUPPORTED_MEDIA_TYPE = 415;
+
+    private final Client delegate;
+    private final BooleanSupplier enabled;
+    private final int minBytes;
+
+    /**
+     * 不接受压缩请求体的主机
+     */
+    private final Set<String> rejectedHosts = ConcurrentHashMap.newKeySet();
+
+    CompressingClient(Client delegate, BooleanSupplier enabled, int minBytes) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public Response execute(Request request, Options options) throws IOException {
+        byte[] body = request.body();
+        if (body == null || body.length == 0) {
+            return delegate.execute(request, options);
+        }
+        String host = HostLimitedClient.hostKey(request.url());
+        boolean gzip = shouldCompress(request, host, body.length);
+        long start = System.nanoTime();
+        Response response = delegate.execute(gzip ? gzipRequest(request) : request, options);
+        if (gzip && response.status() == UNSUPPORTED_MEDIA_TYPE) {
+            rejectedHosts.add(host);
+            response.close();
+            gzip = false;
+            response = delegate.execute(request, options);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} {} body={}B{} status={} {}ms", request.httpMethod(), request.url(), body.length,
+                    gzip ? " gzip" : "", response.status(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return response;
+    }
+
+    private boolean shouldCompress(Request request, String host, int length) {
+        if (!enabled.getAsBoolean() || length < minBytes || rejectedHosts.contains(host)
+                || header(request, CONTENT_ENCODING) != null) {
+            return false;
+        }
+        String contentType = header(request, CONTENT_TYPE);
+        return contentType != null
+                && (contentType.contains("json") || contentType.contains("x-www-form-urlencoded"));
+    }
+
+    private static Request gzipRequest(Request request) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        for (Entry<String, Collection<String>> entry : request.headers().entrySet()) {
+            if (!CONTENT_LENGTH.equalsIgnoreCase(entry.getKey())) {
+                headers.put(entry.getKey(), entry.getValue());
+            }
+        }
+        headers.put(CONTENT_ENCODING, Collections.singletonList("gzip"));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+                request.requestTemplate());
+    }
+
+    private static String header(Request request, String name) {
+        for (Entry<String, Collection<String>> entry : request.headers().entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey()) && !entry.getValue().isEmpty()) {
+                return entry.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+}
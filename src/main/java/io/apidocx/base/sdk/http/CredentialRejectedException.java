@@ -0,0 +1,22 @@
+package io.apidocx.base.sdk.http;
+
+import feign.Request;
+import feign.RetryableException;
+import java.util.Date;
+
+/**
+ * 服务端拒绝凭证, 凭证已刷新, 由{@link SessionRetryer}重试一次.
+ */
+class CredentialRejectedException extends RetryableException {
+
+    CredentialRejectedException(RuntimeException cause, Request request) {
+        super(-1, cause.getMessage(), request.httpMethod(), cause, (Date) null, request);
+    }
+
+    /**
+     * 平台的未登录异常
+     */
+    RuntimeException getRejection() {
+        return (RuntimeException) getCause();
+    }
+}
@@ -0,0 +1,97 @@
+package io.apidocx.base.sdk.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 按主机限制并发请求数的客户端: 并发连接数不超过keep-alive缓存容量, 使连接都能被复用.
+ * <p>
+ * 许可在响应体关闭后释放, 无响应体或请求失败时立即释放; Feign解码后会关闭响应, 直接返回{@link Response}的调用方需自行关闭.
+ */
+class HostLimitedClient implements Client {
+
+    private final Client delegate;
+    private final int maxPerHost;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    HostLimitedClient(Client delegate, int maxPerHost) {
+        this.delegate = delegate;
+        this.maxPerHost = maxPerHost;
+    }
+
+    @Override
+    public Response execute(Request request, Options options) throws IOException {
+        Semaphore semaphore = permits.computeIfAbsent(hostKey(request.url()), key -> new Semaphore(maxPerHost));
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+        Runnable release = new Runnable() {
+            private final AtomicBoolean released = new AtomicBoolean(false);
+
+            @Override
+            public void run() {
+                if (released.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+            }
+        };
+        try {
+            Response response = delegate.execute(request, options);
+            if (response.body() == null) {
+                release.run();
+                return response;
+            }
+            // 响应体读取完毕关闭后才释放, 连接在此之前仍被占用
+            InputStream body = new ReleasingInputStream(response.body().asInputStream(), release);
+            return response.toBuilder().body(body, response.body().length()).build();
+        } catch (IOException | RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    static String hostKey(String url) {
+        try {
+            URI uri = URI.create(url);
+            return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    /**
+     * 关闭时释放主机许可, 重复关闭只释放一次
+     */
+    private static class ReleasingInputStream extends FilterInputStream {
+
+        private final Runnable release;
+
+        ReleasingInputStream(InputStream in, Runnable release) {
+            super(in);
+            this.release = release;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release.run();
+            }
+        }
+    }
+}
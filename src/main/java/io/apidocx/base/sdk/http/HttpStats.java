@@ -0,0 +1,132 @@
+package io.apidocx.base.sdk.http;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * 本次会话的HTTP调用统计: 按接口模板(如"GET /api/interface/list_cat")汇总次数、错误、重试、流量和延迟直方图.
+ * <p>
+ * 熔断拒绝的请求未发送, 单独计数, 不计入次数、错误和延迟.
+ */
+public final class HttpStats {
+
+    private static final Map<String, EndpointStats> ENDPOINTS = new ConcurrentHashMap<>();
+
+    private HttpStats() {
+    }
+
+    /**
+     * 记录一次请求
+     *
+     * @param status 响应状态码, 未收到响应时为-1
+     * @param retry  是否为Feign重试的请求
+     */
+    public static void record(String endpoint, int status, long micros, boolean retry, long requestBytes) {
+        EndpointStats stats = of(endpoint);
+        stats.latency.record(micros);
+        if (status < 0 || status >= 400) {
+            stats.errors.incrementAndGet();
+        }
+        if (retry) {
+            stats.retries.incrementAndGet();
+        }
+        stats.requestBytes.addAndGet(requestBytes);
+    }
+
+    /**
+     * 记录读取的响应体字节数(解压后)
+     */
+    public static void recordReceived(String endpoint, long bytes) {
+        of(endpoint).responseBytes.addAndGet(bytes);
+    }
+
+    /**
+     * 记录一次熔断拒绝
+     */
+    public static void recordRejected(String endpoint) {
+        of(endpoint).rejected.incrementAndGet();
+    }
+
+    private static EndpointStats of(String endpoint) {
+        return ENDPOINTS.computeIfAbsent(endpoint, EndpointStats::new);
+    }
+
+    /**
+     * 各接口统计, 按总耗时降序
+     */
+    public static List<EndpointStats> snapshot() {
+        List<EndpointStats> list = new ArrayList<>(ENDPOINTS.values());
+        list.sort(Comparator.comparingLong((EndpointStats s) -> s.latency.getTotal()).reversed());
+        return list;
+    }
+
+    public static void reset() {
+        ENDPOINTS.clear();
+    }
+
+    /**
+     * 导出为文本表格, 延迟单位毫秒, received为读取的响应体字节数(解压后)
+     */
+    public static String format() {
+        List<EndpointStats> list = snapshot();
+        long total = list.stream().mapToLong(s -> s.latency.getTotal()).sum();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-60s %7s %6s %7s %8s %6s %9s %9s %9s %9s %11s %11s%n", "endpoint", "count",
+                "errors", "retries", "rejected", "time%", "p50", "p90", "p99", "max", "sent", "received"));
+        for (EndpointStats s : list) {
+            LatencyHistogram latency = s.latency;
+            sb.append(String.format("%-60s %7d %6d %7d %8d %5.1f%% %9.1f %9.1f %9.1f %9.1f %11d %11d%n",
+                    s.endpoint, latency.getCount(), s.getErrors(), s.getRetries(), s.getRejected(),
+                    total > 0 ? latency.getTotal() * 100.0 / total : 0,
+                    latency.getPercentile(50) / 1000.0, latency.getPercentile(90) / 1000.0,
+                    latency.getPercentile(99) / 1000.0, latency.getMax() / 1000.0,
+                    s.getRequestBytes(), s.getResponseBytes()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 单个接口的统计
+     */
+    public static class EndpointStats {
+
+        @Getter
+        private final String endpoint;
+        @Getter
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong requestBytes = new AtomicLong();
+        private final AtomicLong responseBytes = new AtomicLong();
+
+        EndpointStats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        public long getRetries() {
+            return retries.get();
+        }
+
+        public long getRejected() {
+            return rejected.get();
+        }
+
+        public long getRequestBytes() {
+            return requestBytes.get();
+        }
+
+        public long getResponseBytes() {
+            return responseBytes.get();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.apidocx.base.sdk.http;
+
+import feign.Client;
+import feign.Feign;
+import feign.Request.Options;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.HttpsURLConnection;
+
+/**
+ * 各平台客户端共享的HTTP传输层.
+ * <ul>
+ *     <li>连接: 共享同一个客户端, 基于JDK的keep-alive连接缓存按主机复用连接, 并按主机限制并发数</li>
+ *     <li>TLS: 使用HttpsURLConnection默认的SSLSocketFactory, IDE中即平台证书管理器信任的证书</li>
+ *     <li>超时: 默认连接10秒、读取60秒, 可通过系统属性apidocx.http.connectTimeout、apidocx.http.readTimeout(秒)调整</li>
+ *     <li>压缩: 声明接受gzip/deflate响应, 由Feign客户端解压; 在设置中开启或系统属性apidocx.http.gzipRequests=true时,
+ *     超过apidocx.http.gzipMinBytes(默认16KB)的请求体以gzip发送</li>
+ *     <li>熔断: 同一服务连续失败apidocx.http.breakerFailures(默认5)次后暂停请求
+ *     apidocx.http.breakerOpenSeconds(默认30)秒, 期间请求直接失败</li>
+ *     <li>统计: 每个请求按接口模板记录到{@link HttpStats}</li>
+ * </ul>
+ * 可通过{@link #setClient(Client)}替换底层实现.
+ */
+public final class HttpTransport {
+
+    /**
+     * 每个主机的最大并发连接数, 与JDK默认keep-alive缓存数(http.maxConnections)一致
+     */
+    private static final int MAX_CONNECTIONS_PER_HOST = Integer.getInteger("http.maxConnections", 5);
+
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private static final boolean GZIP_REQUESTS_PROPERTY = Boolean.getBoolean("apidocx.http.gzipRequests");
+
+    private static volatile boolean gzipRequests = GZIP_REQUESTS_PROPERTY;
+
+    private static volatile Client client = defaultClient();
+
+    private static volatile Options options = new Options(
+            Integer.getInteger("apidocx.http.connectTimeout", 10), TimeUnit.SECONDS,
+            Integer.getInteger("apidocx.http.readTimeout", 60), TimeUnit.SECONDS, true);
+
+    private HttpTransport() {
+    }
+
+    /**
+     * 使用共享传输层的Feign构建器
+     */
+    public static Feign.Builder feignBuilder() {
+        return Feign.builder()
+                .client(client)
+                .options(options)
+                .retryer(new SessionRetryer())
+                .requestInterceptor(template -> {
+                    if (!template.headers().containsKey(ACCEPT_ENCODING)) {
+                        template.header(ACCEPT_ENCODING, "gzip, deflate");
+                    }
+                });
+    }
+
+    public static Client getClient() {
+        return client;
+    }
+
+    /**
+     * 替换底层客户端, 对之后创建的平台客户端生效
+     */
+    public static void setClient(Client client) {
+        HttpTransport.client = client;
+    }
+
+    public static Options getOptions() {
+        return options;
+    }
+
+    /**
+     * 设置超时时间, 对之后创建的平台客户端生效
+     */
+    public static void setOptions(Options options) {
+        HttpTransport.options = options;
+    }
+
+    /**
+     * 设置是否压缩请求体, 立即生效; 系统属性apidocx.http.gzipRequests=true时始终开启
+     */
+    public static void setGzipRequests(boolean enabled) {
+        gzipRequests = enabled || GZIP_REQUESTS_PROPERTY;
+    }
+
+    /**
+     * 统计 -> 按主机限流 -> 熔断 -> 请求体压缩 -> JDK连接
+     * <p>
+     * 熔断在限流之内: 等待许可的请求拿到许可后再检查熔断, 熔断打开后直接失败, 不再逐个等待超时.
+     */
+    private static Client defaultClient() {
+        Client client = new Client.Default(HttpsURLConnection.getDefaultSSLSocketFactory(), null);
+        client = new CompressingClient(client, () -> gzipRequests,
+                Integer.getInteger("apidocx.http.gzipMinBytes", 16 * 1024));
+        client = new CircuitBreakerClient(client, Integer.getInteger("apidocx.http.breakerFailures", 5),
+                TimeUnit.SECONDS.toMillis(Integer.getInteger("apidocx.http.breakerOpenSeconds", 30)));
+        client = new HostLimitedClient(client, MAX_CONNECTIONS_PER_HOST);
+        return new TracingClient(client);
+    }
+}
@@ -0,0 +1,33 @@
+package io.apidocx.base.sdk.http;
+
+import com.google.gson.Gson;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.form.FormEncoder;
+import feign.gson.GsonDecoder;
+import feign.gson.GsonEncoder;
+
+/**
+ * 各平台客户端共享的编解码器.
+ * <ul>
+ *     <li>编码: 表单请求按表单编码, 其余按紧凑JSON编码(无缩进换行, 省略null字段)</li>
+ *     <li>解码: feign-gson默认解码器, 共享一个实例</li>
+ * </ul>
+ */
+public final class JsonCodecs {
+
+    private static final Encoder ENCODER = new FormEncoder(new GsonEncoder(new Gson()));
+
+    private static final Decoder DECODER = new GsonDecoder();
+
+    private JsonCodecs() {
+    }
+
+    public static Encoder encoder() {
+        return ENCODER;
+    }
+
+    public static Decoder decoder() {
+        return DECODER;
+    }
+}
@@ -0,0 +1,38 @@
+package io.apidocx.base.sdk.http;
+
+import feign.RetryableException;
+import feign.Retryer;
+
+/**
+ * 重试策略: 凭证被拒绝时刷新后立即重试一次, 再次被拒绝时抛出平台的未登录异常; 其他可重试异常按Feign默认策略.
+ */
+class SessionRetryer implements Retryer {
+
+    private final Retryer delegate;
+    private boolean retried;
+
+    SessionRetryer() {
+        this(new Retryer.Default());
+    }
+
+    private SessionRetryer(Retryer delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (e instanceof CredentialRejectedException) {
+            if (retried) {
+                throw ((CredentialRejectedException) e).getRejection();
+            }
+            retried = true;
+            return;
+        }
+        delegate.continueOrPropagate(e);
+    }
+
+    @Override
+    public Retryer clone() {
+        return new SessionRetryer(delegate.clone());
+    }
+}
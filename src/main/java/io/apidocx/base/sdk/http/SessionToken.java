@@ -0,0 +1,187 @@
+package io.apidocx.base.sdk.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.RetryableException;
+import java.net.HttpCookie;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 会话凭证(cookie或token), 供多个上传线程共享.
+ * <ul>
+ *     <li>单飞登录: 同一时刻只有一个线程登录, 其他线程等待并复用登录结果</li>
+ *     <li>提前刷新: 已知过期时间(JWT的exp或cookie的Max-Age/Expires)时, 过期前1分钟重新登录;
+ *     登录需要验证码的客户端不提前刷新, 凭证一直使用到服务端拒绝</li>
+ *     <li>拒绝后刷新: 服务端拒绝凭证时通过{@link #rejected}刷新并重试一次</li>
+ *     <li>原子更新: 凭证和过期时间作为一个不可变对象整体替换, 不会读到一半的凭证</li>
+ * </ul>
+ */
+public final class SessionToken {
+
+    /**
+     * 过期前提前刷新的时间
+     */
+    private static final long REFRESH_AHEAD_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Gson gson = new Gson();
+
+    /**
+     * 登录操作, 通过{@link #update(String)}或{@link #update(String, long)}写入新凭证
+     */
+    private final Runnable login;
+    private final boolean refreshAhead;
+    private final Object lock = new Object();
+    private volatile Credential credential;
+
+    public SessionToken(String token, Runnable login) {
+        this(token, login, true);
+    }
+
+    /**
+     * @param refreshAhead 是否在过期前提前登录, 登录需要验证码时为false
+     */
+    public SessionToken(String token, Runnable login, boolean refreshAhead) {
+        this.login = login;
+        this.refreshAhead = refreshAhead;
+        this.credential = new Credential(token, refreshAhead ? jwtExpiresAt(token) : 0);
+    }
+
+    /**
+     * 获取可用凭证, 为空或即将过期时登录
+     */
+    public String get() {
+        Credential current = this.credential;
+        if (current.isUsable(System.currentTimeMillis())) {
+            return current.token;
+        }
+        return refresh(current.token);
+    }
+
+    /**
+     * 当前凭证, 不触发登录
+     */
+    public String peek() {
+        return credential.token;
+    }
+
+    /**
+     * 刷新失效的凭证: 如果其他线程已经刷新过, 直接返回新凭证
+     *
+     * @param stale 已失效的凭证
+     */
+    public String refresh(String stale) {
+        synchronized (lock) {
+            Credential current = this.credential;
+            if (!Objects.equals(current.token, stale) && current.isUsable(System.currentTimeMillis())) {
+                return current.token;
+            }
+            login.run();
+            return this.credential.token;
+        }
+    }
+
+    /**
+     * 请求头写入可用凭证, 替换重试前写入的凭证
+     */
+    public void apply(RequestTemplate template, String header) {
+        template.header(header, Collections.emptyList());
+        template.header(header, get());
+    }
+
+    /**
+     * 服务端拒绝凭证: 刷新凭证后返回重试异常, 只重试一次, 仍被拒绝时抛出原异常
+     *
+     * @param request 被拒绝的请求
+     * @param header  携带凭证的请求头
+     * @param cause   平台的未登录异常
+     */
+    public RetryableException rejected(Request request, String header, RuntimeException cause) {
+        Collection<String> sent = request.headers().get(header);
+        refresh(sent != null && !sent.isEmpty() ? sent.iterator().next() : null);
+        return new CredentialRejectedException(cause, request);
+    }
+
+    /**
+     * 写入新凭证, 过期时间从JWT中解析
+     */
+    public void update(String token) {
+        update(token, jwtExpiresAt(token));
+    }
+
+    /**
+     * 写入新凭证
+     *
+     * @param expiresAt 过期时间戳(毫秒), 未知时为0
+     */
+    public void update(String token, long expiresAt) {
+        this.credential = new Credential(token, refreshAhead ? expiresAt : 0);
+    }
+
+    /**
+     * 解析Set-Cookie中最早的过期时间(毫秒), 未知时为0
+     */
+    public static long cookieExpiresAt(Collection<String> setCookies) {
+        if (setCookies == null) {
+            return 0;
+        }
+        long maxAge = Long.MAX_VALUE;
+        for (String setCookie : setCookies) {
+            try {
+                for (HttpCookie cookie : HttpCookie.parse(setCookie)) {
+                    if (cookie.getMaxAge() > 0) {
+                        maxAge = Math.min(maxAge, cookie.getMaxAge());
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                // ignored
+            }
+        }
+        return maxAge == Long.MAX_VALUE ? 0 : System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(maxAge);
+    }
+
+    /**
+     * 解析JWT的过期时间(毫秒), 支持"Bearer "前缀, 非JWT时为0
+     */
+    static long jwtExpiresAt(String token) {
+        if (StringUtils.isEmpty(token)) {
+            return 0;
+        }
+        String jwt = token.substring(token.lastIndexOf(' ') + 1);
+        String[] parts = jwt.split("\\.");
+        if (parts.length != 3) {
+            return 0;
+        }
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), UTF_8);
+            JsonElement exp = gson.fromJson(payload, JsonObject.class).get("exp");
+            return exp != null && exp.isJsonPrimitive() ? TimeUnit.SECONDS.toMillis(exp.getAsLong()) : 0;
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static class Credential {
+
+        private final String token;
+        private final long expiresAt;
+
+        Credential(String token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isUsable(long now) {
+            return StringUtils.isNotEmpty(token) && (expiresAt <= 0 || now < expiresAt - REFRESH_AHEAD_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.apidocx.base.sdk.http;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Request.Options;
+import feign.RequestTemplate;
+import feign.Response;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 记录每个请求的接口模板、状态码、耗时、请求/响应大小和重试到{@link HttpStats}.
+ * <p>
+ * 响应大小按实际读取的字节数统计, 分块传输或压缩的响应没有Content-Length; 熔断拒绝单独计数.
+ */
+class TracingClient implements Client {
+
+    /**
+     * 请求模板 -> 已发送次数: Feign重试时复用同一个模板对象
+     */
+    private final Cache<RequestTemplate, AtomicInteger> attempts = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    private final Client delegate;
+
+    TracingClient(Client delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response execute(Request request, Options options) throws IOException {
+        String endpoint = endpointOf(request);
+        boolean retry = isRetry(request.requestTemplate());
+        long requestBytes = request.body() != null ? request.body().length : 0;
+        long start = System.nanoTime();
+        int status = -1;
+        boolean rejected = false;
+        try {
+            Response response = delegate.execute(request, options);
+            status = response.status();
+            if (response.body() == null) {
+                return response;
+            }
+            InputStream body = new CountingInputStream(response.body().asInputStream(), endpoint);
+            return response.toBuilder().body(body, response.body().length()).build();
+        } catch (CircuitOpenException e) {
+            rejected = true;
+            HttpStats.recordRejected(endpoint);
+            throw e;
+        } finally {
+            if (!rejected) {
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                HttpStats.record(endpoint, status, micros, retry, requestBytes);
+            }
+        }
+    }
+
+    private boolean isRetry(RequestTemplate template) {
+        if (template == null) {
+            return false;
+        }
+        AtomicInteger count = attempts.asMap().computeIfAbsent(template, key -> new AtomicInteger());
+        return count.getAndIncrement() > 0;
+    }
+
+    /**
+     * 接口模板: 请求方法 + 接口声明的路径(不含参数), 路径由参数传入时使用方法签名
+     */
+    private static String endpointOf(Request request) {
+        String method = request.httpMethod().name();
+        RequestTemplate template = request.requestTemplate();
+        MethodMetadata metadata = template != null ? template.methodMetadata() : null;
+        if (metadata != null) {
+            String path = StringUtils.substringBefore(metadata.template().url(), "?");
+            return method + " " + (StringUtils.isNotEmpty(path) ? path : metadata.configKey());
+        }
+        try {
+            return method + " " + URI.create(request.url()).getPath();
+        } catch (IllegalArgumentException e) {
+            return method + " " + request.url();
+        }
+    }
+
+    /**
+     * 读取响应体时累计字节数
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private final String endpoint;
+
+        CountingInputStream(InputStream in, String endpoint) {
+            super(in);
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                HttpStats.recordReceived(endpoint, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                HttpStats.recordReceived(endpoint, n);
+            }
+            return n;
+        }
+    }
+}
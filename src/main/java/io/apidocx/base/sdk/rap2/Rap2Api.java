@@ -4,9 +4,8 @@ import feign.Feign;
 import feign.Headers;
 import feign.Param;
 import feign.RequestLine;
-import feign.form.FormEncoder;
-import feign.gson.GsonDecoder;
-import feign.gson.GsonEncoder;
+import io.apidocx.base.sdk.http.HttpTransport;
+import io.apidocx.base.sdk.http.JsonCodecs;
 import io.apidocx.base.sdk.rap2.dto.InterfaceCreateResponse;
 import io.apidocx.base.sdk.rap2.dto.InterfacePropertiesUpdateRequest;
 import io.apidocx.base.sdk.rap2.dto.InterfaceUpdateRequest;
@@ -23,9 +22,9 @@ import io.apidocx.base.sdk.rap2.model.Rap2User;
 public interface Rap2Api {
 
     static Feign.Builder feignBuilder() {
-        return Feign.builder()
-                .encoder(new FormEncoder(new GsonEncoder()))
-                .decoder(new GsonDecoder());
+        return HttpTransport.feignBuilder()
+                .encoder(JsonCodecs.encoder())
+                .decoder(JsonCodecs.decoder());
     }
 
     /**
@@ -2,6 +2,8 @@ package io.apidocx.base.sdk.rap2;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import io.apidocx.base.sdk.http.AsyncCalls;
+import io.apidocx.base.sdk.http.SessionToken;
 import io.apidocx.base.sdk.rap2.dto.CaptchaResponse;
 import io.apidocx.base.sdk.rap2.dto.InterfaceCreateResponse;
 import io.apidocx.base.sdk.rap2.dto.InterfacePropertiesUpdateRequest;
@@ -18,10 +20,10 @@ import io.apidocx.base.sdk.rap2.model.Rap2Repository;
 import io.apidocx.base.sdk.rap2.model.Rap2User;
 import io.apidocx.base.sdk.rap2.util.SvgUtils;
 import java.io.IOException;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import lombok.Getter;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -53,8 +55,10 @@ public class Rap2Client {
      */
     private String captcha;
 
-    @Getter
-    private String cookies;
+    /**
+     * 登录会话cookie
+     */
+    private final SessionToken session;
 
     /**
      * 验证码会话
@@ -71,6 +75,7 @@ public class Rap2Client {
         this.url = url;
         this.account = account;
         this.password = password;
+        this.session = new SessionToken(null, this::doLogin, false);
         this.rap2Api = createApiClient(url);
     }
 
@@ -79,7 +84,7 @@ public class Rap2Client {
         this.url = url;
         this.account = account;
         this.password = password;
-        this.cookies = cookies;
+        this.session = new SessionToken(cookies, this::doLogin, false);
         if (userId != null) {
             this.currentUser = new Rap2User(userId);
         }
@@ -105,7 +110,7 @@ public class Rap2Client {
         if (exception != null && exception.isNeedAuth()) {
             exception = null;
             try {
-                getOrRefreshAccessToken(true);
+                session.refresh(session.peek());
             } catch (Rap2Exception e) {
                 exception = e;
             }
@@ -113,7 +118,7 @@ public class Rap2Client {
 
         if (exception == null) {
             result.setCode(Code.OK);
-            result.setCookies(this.cookies);
+            result.setCookies(session.peek());
         } else {
             result.setMessage(exception.getMessage());
             if (exception.isNeedAuth() || exception.isAccountPasswordError()) {
@@ -127,13 +132,17 @@ public class Rap2Client {
         return result;
     }
 
+    public String getCookies() {
+        return session.peek();
+    }
+
     /**
      * 获取验证码
      */
     public CaptchaResponse getCaptcha() {
         try (feign.Response response = rap2Api.getCaptcha();) {
-            byte[] bytes = IOUtils.readFully(response.body().asInputStream(), response.body().length());
-            bytes = SvgUtils.convertToJpegBytes(bytes);
+            byte[] svg = IOUtils.readFully(response.body().asInputStream(), response.body().length());
+            byte[] bytes = SvgUtils.convertToJpegBytes(svg);
             CaptchaResponse captchaResponse = new CaptchaResponse();
             captchaResponse.setBytes(bytes);
             String cookies = InternalUtils.parseCookie(response.headers().get("set-cookie"));
@@ -219,13 +228,20 @@ public class Rap2Client {
         return currentUser;
     }
 
+    /**
+     * 异步调用, 在共享线程池中执行
+     */
+    public <T> CompletableFuture<T> async(Function<Rap2Client, T> call) {
+        return AsyncCalls.supplyAsync(() -> call.apply(this));
+    }
+
     private Rap2Api createApiClient(String url) {
         return Rap2Api.feignBuilder()
                 .requestInterceptor(template -> {
                     // 请求设置鉴权信息
                     boolean needCookie = !Rap2Constants.isLoginPath(template.path()) && !Rap2Constants.isCaptchaPath(template.path());
                     if (needCookie) {
-                        template.header("cookie", getOrRefreshAccessToken(false));
+                        session.apply(template, "cookie");
                     }
                 })
                 .responseInterceptor(ctx -> {
@@ -236,7 +252,12 @@ public class Rap2Client {
                         Response<?> responseValue = (Response<?>) value;
                         if (!responseValue.isSuccess()) {
                             String errMsg = responseValue.getErrMsg() != null ? responseValue.getErrMsg() : "未获取到数据";
-                            throw new Rap2Exception(path, errMsg);
+                            Rap2Exception e = new Rap2Exception(path, errMsg);
+                            if (e.isNeedAuth() && !Rap2Constants.isLoginPath(path)) {
+                                // 被拒绝后才重新登录, 登录需要验证码时抛出登录异常
+                                throw session.rejected(ctx.response().request(), "cookie", e);
+                            }
+                            throw e;
                         }
                     }
 
@@ -247,8 +268,7 @@ public class Rap2Client {
                         if (!loginResult.isSuccess()) {
                             throw new Rap2Exception(path, loginResult.getErrMsg());
                         }
-                        Collection<String> setCookies = ctx.response().headers().get("set-cookie");
-                        this.cookies = InternalUtils.parseCookie(setCookies);
+                        session.update(InternalUtils.parseCookie(ctx.response().headers().get("set-cookie")));
                     }
                     return value;
                 })
@@ -259,15 +279,10 @@ public class Rap2Client {
                 .target(Rap2Api.class, url);
     }
 
-    private String getOrRefreshAccessToken(boolean force) {
-        if (!force && this.cookies != null && !this.cookies.isEmpty()) {
-            return this.cookies;
-        }
-        this.currentUser = doLogin();
-        return this.cookies;
-    }
-
-    private Rap2User doLogin() {
+    /**
+     * 登录, 由响应拦截器写入cookie
+     */
+    private void doLogin() {
         LoginRequest loginRequest = LoginRequest.builder()
                 .email(this.account)
                 .password(this.password)
@@ -280,7 +295,7 @@ public class Rap2Client {
         user.setId(loginResponse.getId());
         user.setEmail(loginResponse.getEmail());
         user.setFullname(loginResponse.getFullname());
-        return user;
+        this.currentUser = user;
     }
 
 }
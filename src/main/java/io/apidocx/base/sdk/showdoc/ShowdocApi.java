@@ -4,9 +4,8 @@ import feign.Feign;
 import feign.Headers;
 import feign.Param;
 import feign.RequestLine;
-import feign.form.FormEncoder;
-import feign.gson.GsonDecoder;
-import feign.gson.GsonEncoder;
+import io.apidocx.base.sdk.http.HttpTransport;
+import io.apidocx.base.sdk.http.JsonCodecs;
 import io.apidocx.base.sdk.showdoc.model.ShowdocProjectToken;
 import io.apidocx.base.sdk.showdoc.model.ShowdocUpdateResponse;
 import java.net.URI;
@@ -16,9 +15,9 @@ import java.util.Map;
 public interface ShowdocApi {
 
     static Feign.Builder feignBuilder() {
-        return Feign.builder()
-                .encoder(new FormEncoder(new GsonEncoder()))
-                .decoder(new GsonDecoder());
+        return HttpTransport.feignBuilder()
+                .encoder(JsonCodecs.encoder())
+                .decoder(JsonCodecs.decoder());
     }
 
     /**
@@ -2,6 +2,9 @@ package io.apidocx.base.sdk.showdoc;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import io.apidocx.base.sdk.http.AsyncCalls;
+import io.apidocx.base.sdk.http.BeanFormCodec;
+import io.apidocx.base.sdk.http.SessionToken;
 import io.apidocx.base.sdk.showdoc.model.CaptchaResponse;
 import io.apidocx.base.sdk.showdoc.model.LoginRequest;
 import io.apidocx.base.sdk.showdoc.model.ShowdocProjectToken;
@@ -11,9 +14,9 @@ import io.apidocx.base.sdk.showdoc.model.TestResult;
 import io.apidocx.base.sdk.showdoc.model.TestResult.Code;
 import java.io.IOException;
 import java.net.URI;
-import java.util.Collection;
 import java.util.Map;
-import lombok.Getter;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -35,8 +38,10 @@ public class ShowdocClient {
      */
     private final String password;
 
-    @Getter
-    private String cookies;
+    /**
+     * 登录会话cookie
+     */
+    private final SessionToken session;
 
     /**
      * 验证码
@@ -58,6 +63,7 @@ public class ShowdocClient {
         this.url = url;
         this.account = account;
         this.password = password;
+        this.session = new SessionToken(null, this::doLogin, false);
         this.showdocApi = createApiClient(url);
     }
 
@@ -66,7 +72,7 @@ public class ShowdocClient {
         this.url = url;
         this.account = account;
         this.password = password;
-        this.cookies = cookies;
+        this.session = new SessionToken(cookies, this::doLogin, false);
         this.showdocApi = createApiClient(url);
     }
 
@@ -89,7 +95,7 @@ public class ShowdocClient {
         if (exception != null && exception.isNeedAuth()) {
             exception = null;
             try {
-                getOrRefreshAccessToken(true);
+                session.refresh(session.peek());
             } catch (ShowdocException e) {
                 exception = e;
             }
@@ -97,7 +103,7 @@ public class ShowdocClient {
 
         if (exception == null) {
             result.setCode(Code.OK);
-            result.setCookies(this.cookies);
+            result.setCookies(session.peek());
         } else {
             result.setMessage(exception.getMessage());
             if (exception.isNeedAuth() || exception.isAccountPasswordError()) {
@@ -111,6 +117,10 @@ public class ShowdocClient {
         return result;
     }
 
+    public String getCookies() {
+        return session.peek();
+    }
+
     private URI uri(String path) {
         String theUrl = this.url + "/server/index.php?s=" + path;
         boolean sassConcat = path.equals(ShowdocConstants.UpdatePageOpenApi)
@@ -149,7 +159,7 @@ public class ShowdocClient {
      * 添加或保存文档，通过OpenApi提供接口
      */
     public ShowdocUpdateResponse updatePageByOpenApi(ShowdocUpdateRequest request) {
-        Map<String, String> params = InternalUtils.beanToMap(request);
+        Map<String, String> params = BeanFormCodec.encode(request);
         Response<ShowdocUpdateResponse> response = showdocApi.savePage(uri(ShowdocConstants.UpdatePageOpenApi), params);
         return response.getData();
     }
@@ -164,6 +174,12 @@ public class ShowdocClient {
         return this.url + "/" + projectId + "/" + pageId;
     }
 
+    /**
+     * 异步调用, 在共享线程池中执行
+     */
+    public <T> CompletableFuture<T> async(Function<ShowdocClient, T> call) {
+        return AsyncCalls.supplyAsync(() -> call.apply(this));
+    }
 
     private ShowdocApi createApiClient(String url) {
         return ShowdocApi.feignBuilder()
@@ -171,7 +187,7 @@ public class ShowdocClient {
                     // 请求设置鉴权信息
                     boolean needCookie = !ShowdocConstants.isLoginPath(template.url()) && !ShowdocConstants.isCaptchaPath(template.url());
                     if (needCookie) {
-                        template.header("cookie", getOrRefreshAccessToken(false));
+                        session.apply(template, "cookie");
                     }
                 })
                 .responseInterceptor(ctx -> {
@@ -182,13 +198,17 @@ public class ShowdocClient {
                     if (value instanceof Response) {
                         Response<?> responseValue = (Response<?>) value;
                         if (!responseValue.isSuccess()) {
-                            throw new ShowdocException(path, responseValue);
+                            ShowdocException e = new ShowdocException(path, responseValue);
+                            if (e.isNeedAuth() && !ShowdocConstants.isLoginPath(requestUrl)) {
+                                // 被拒绝后才重新登录, 登录需要验证码时抛出登录异常
+                                throw session.rejected(ctx.response().request(), "cookie", e);
+                            }
+                            throw e;
                         }
                     }
                     // 登录存储cookie
                     if (ShowdocConstants.isLoginPath(requestUrl)) {
-                        Collection<String> setCookies = ctx.response().headers().get("set-cookie");
-                        this.cookies = InternalUtils.parseCookie(setCookies);
+                        session.update(InternalUtils.parseCookie(ctx.response().headers().get("set-cookie")));
                     }
                     return value;
                 })
@@ -199,21 +219,16 @@ public class ShowdocClient {
                 .target(ShowdocApi.class, url);
     }
 
-    private String getOrRefreshAccessToken(boolean force) {
-        if (!force && this.cookies != null && !this.cookies.isEmpty()) {
-            return this.cookies;
-        }
-        doLogin();
-        return this.cookies;
-    }
-
+    /**
+     * 登录, 由响应拦截器写入cookie
+     */
     private void doLogin() {
         LoginRequest request = new LoginRequest();
         request.setUsername(this.account);
         request.setPassword(this.password);
         request.setV_code(this.captcha);
 
-        Map<String, String> params = InternalUtils.beanToMap(request);
+        Map<String, String> params = BeanFormCodec.encode(request);
         showdocApi.login(uri(ShowdocConstants.LoginPath), params, this.captchaCookies);
     }
 }
@@ -4,9 +4,8 @@ import feign.Feign;
 import feign.Headers;
 import feign.Param;
 import feign.RequestLine;
-import feign.form.FormEncoder;
-import feign.gson.GsonDecoder;
-import feign.gson.GsonEncoder;
+import io.apidocx.base.sdk.http.HttpTransport;
+import io.apidocx.base.sdk.http.JsonCodecs;
 import io.apidocx.base.sdk.yapi.model.ApiCategory;
 import io.apidocx.base.sdk.yapi.model.ApiInterface;
 import io.apidocx.base.sdk.yapi.model.CategoryCreateRequest;
@@ -22,9 +21,9 @@ import java.util.List;
 public interface YapiApi {
 
     static Feign.Builder feignBuilder() {
-        return Feign.builder()
-                .encoder(new FormEncoder(new GsonEncoder()))
-                .decoder(new GsonDecoder());
+        return HttpTransport.feignBuilder()
+                .encoder(JsonCodecs.encoder())
+                .decoder(JsonCodecs.decoder());
     }
 
     /**
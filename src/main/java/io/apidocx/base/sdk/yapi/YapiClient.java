@@ -2,6 +2,8 @@ package io.apidocx.base.sdk.yapi;
 
 import static java.lang.String.format;
 
+import io.apidocx.base.sdk.http.AsyncCalls;
+import io.apidocx.base.sdk.http.SessionToken;
 import io.apidocx.base.sdk.yapi.model.ApiCategory;
 import io.apidocx.base.sdk.yapi.model.ApiInterface;
 import io.apidocx.base.sdk.yapi.model.CategoryCreateRequest;
@@ -13,6 +15,9 @@ import io.apidocx.base.sdk.yapi.model.TestResult;
 import io.apidocx.base.sdk.yapi.model.TestResult.Code;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 
@@ -46,7 +51,11 @@ public class YapiClient {
      */
     private String token;
 
-    private String cookies;
+    /**
+     * 登录会话cookie
+     */
+    @Getter(AccessLevel.NONE)
+    private final SessionToken session;
 
 
     public YapiClient(String url, String account, String password, LoginWay loginWay, String cookies) {
@@ -54,7 +63,7 @@ public class YapiClient {
         this.account = account;
         this.password = password;
         this.loginWay = loginWay == null ? LoginWay.DEFAULT : loginWay;
-        this.cookies = cookies;
+        this.session = new SessionToken(cookies, this::doLogin);
         this.yapiApi = createYapiApi(url);
     }
 
@@ -65,6 +74,7 @@ public class YapiClient {
         this.account = null;
         this.password = null;
         this.loginWay = null;
+        this.session = new SessionToken(null, this::doLogin);
     }
 
     /**
@@ -88,7 +98,7 @@ public class YapiClient {
         if (!usingToken && exception != null && exception.isNeedAuth()) {
             exception = null;
             try {
-                getOrRefreshAccessToken(true);
+                session.refresh(session.peek());
             } catch (YapiException e) {
                 exception = e;
             }
@@ -96,7 +106,7 @@ public class YapiClient {
 
         if (exception == null) {
             result.setCode(Code.OK);
-            result.setCookies(this.cookies);
+            result.setCookies(session.peek());
         } else {
             if (exception.isNeedAuth() || exception.isAuthFailed()) {
                 result.setCode(Code.AUTH_ERROR);
@@ -109,6 +119,10 @@ public class YapiClient {
         return result;
     }
 
+    public String getCookies() {
+        return session.peek();
+    }
+
     /**
      * 获取所有分类
      */
@@ -171,6 +185,13 @@ public class YapiClient {
         return format("%s/project/%d/interface/api/%d", url, projectId, id);
     }
 
+    /**
+     * 异步调用, 在共享线程池中执行
+     */
+    public <T> CompletableFuture<T> async(Function<YapiClient, T> call) {
+        return AsyncCalls.supplyAsync(() -> call.apply(this));
+    }
+
     private YapiApi createYapiApi(String url) {
         return YapiApi.feignBuilder()
                 .requestInterceptor(template -> {
@@ -180,7 +201,7 @@ public class YapiClient {
                         if (StringUtils.isNotEmpty(this.token)) {
                             template.query("token", this.token);
                         } else {
-                            template.header("cookie", getOrRefreshAccessToken(false));
+                            session.apply(template, "cookie");
                         }
                     }
                 })
@@ -189,14 +210,21 @@ public class YapiClient {
                     String path = InternalUtils.getUrlPath(ctx.response().request().url());
                     if (YapiConstants.isLoginPath(path)) {
                         Collection<String> setCookies = ctx.response().headers().get("set-cookie");
-                        this.cookies = InternalUtils.parseCookie(setCookies);
+                        session.update(InternalUtils.parseCookie(setCookies),
+                                SessionToken.cookieExpiresAt(setCookies));
                     }
                     // 响应异常转换
                     Object value = ctx.proceed();
                     if (value instanceof Response) {
                         Response<?> responseValue = (Response<?>) value;
                         if (!responseValue.isSuccess()) {
-                            throw new YapiException(path, responseValue.getErrorCode(), responseValue.getErrorMessage());
+                            YapiException e = new YapiException(path, responseValue.getErrorCode(),
+                                    responseValue.getErrorMessage());
+                            if (e.isNeedAuth() && StringUtils.isEmpty(this.token) && !YapiConstants.isLoginPath(path)) {
+                                // 只有一个线程重新登录, 其他线程复用新凭证重试
+                                throw session.rejected(ctx.response().request(), "cookie", e);
+                            }
+                            throw e;
                         }
                     }
                     return value;
@@ -208,17 +236,16 @@ public class YapiClient {
                 .target(YapiApi.class, url);
     }
 
-    private String getOrRefreshAccessToken(boolean force) {
-        if (!force && this.cookies != null && !this.cookies.isEmpty()) {
-            return this.cookies;
-        }
+    /**
+     * 登录, 由响应拦截器写入cookie
+     */
+    private void doLogin() {
         LoginRequest loginRequest = LoginRequest.builder().email(this.account).password(this.password).build();
         if (loginWay == LoginWay.LDAP) {
             yapiApi.loginLdap(loginRequest);
         } else {
             yapiApi.login(loginRequest);
         }
-        return this.cookies;
     }
 
 }
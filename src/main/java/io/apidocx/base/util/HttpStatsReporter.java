@@ -0,0 +1,41 @@
+package io.apidocx.base.util;
+
+import com.intellij.openapi.application.PathManager;
+import io.apidocx.base.sdk.http.HttpStats;
+import io.apidocx.base.sdk.http.HttpStats.EndpointStats;
+import io.apidocx.config.DefaultConstants;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 输出本次会话的HTTP调用统计: 写入日志目录, 并提示耗时最多的接口
+ */
+@UtilityClass
+public class HttpStatsReporter {
+
+    private static final String FILE = "apidocx-http.txt";
+
+    public static void report() {
+        List<EndpointStats> stats = HttpStats.snapshot();
+        if (stats.isEmpty()) {
+            return;
+        }
+        File file = new File(PathManager.getLogPath(), FILE);
+        try {
+            Files.write(file.toPath(), HttpStats.format().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            NotificationUtils.notifyWarning(DefaultConstants.NAME, "Write http stats failed: " + e.getMessage());
+            return;
+        }
+        long total = stats.stream().mapToLong(s -> s.getLatency().getTotal()).sum();
+        EndpointStats top = stats.get(0);
+        double share = total > 0 ? top.getLatency().getTotal() * 100.0 / total : 0;
+        String content = String.format("Http stats: %s took %.1f%% of %.2fs, saved to %s",
+                top.getEndpoint(), share, total / 1_000_000.0, file.getAbsolutePath());
+        NotificationUtils.notifyInfo(DefaultConstants.NAME, content);
+    }
+}
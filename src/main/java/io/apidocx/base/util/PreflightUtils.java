@@ -0,0 +1,77 @@
+package io.apidocx.base.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 上传前的连接检查: 检查在后台执行不阻塞界面, 检查通过的账户在有效期内不再重复检查.
+ */
+@UtilityClass
+public class PreflightUtils {
+
+    /**
+     * 检查通过的有效期(分钟)
+     */
+    private static final long TTL_MINUTES = 5;
+
+    private static final Cache<String, Boolean> passed = CacheBuilder.newBuilder()
+            .expireAfterWrite(TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * 有效期内是否已检查通过
+     *
+     * @param credential 密码或令牌, 变更后需要重新检查
+     */
+    public static boolean isPassed(String platform, String url, String account, String credential) {
+        return passed.getIfPresent(key(platform, url, account, credential)) != null;
+    }
+
+    /**
+     * 记录检查通过
+     */
+    public static void markPassed(String platform, String url, String account, String credential) {
+        passed.put(key(platform, url, account, credential), Boolean.TRUE);
+    }
+
+    /**
+     * 清除平台的检查结果, 账户配置保存时调用
+     */
+    public static void invalidate(String platform) {
+        String prefix = platform + "\n";
+        passed.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * 在后台执行检查并显示可取消的进度, 取消时返回null; 非界面线程上直接执行
+     */
+    @Nullable
+    public static <T> T runWithProgress(@Nullable Project project, String title, Supplier<T> test) {
+        if (!ApplicationManager.getApplication().isDispatchThread()) {
+            return test.get();
+        }
+        try {
+            return ProgressManager.getInstance()
+                    .runProcessWithProgressSynchronously(test::get, title, true, project);
+        } catch (ProcessCanceledException e) {
+            return null;
+        }
+    }
+
+    private static String key(String platform, String url, String account, String credential) {
+        String credentialHash = Hashing.sha256()
+                .hashString(StringUtils.defaultString(credential), StandardCharsets.UTF_8).toString();
+        return platform + "\n" + url + "\n" + account + "\n" + credentialHash;
+    }
+}
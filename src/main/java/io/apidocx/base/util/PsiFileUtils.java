@@ -1,16 +1,21 @@
 package io.apidocx.base.util;
 
-import com.google.common.collect.Lists;
-import com.intellij.openapi.project.Project;
+import com.google.common.collect.AbstractIterator;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.fileTypes.FileTypeRegistry;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaFile;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiModifier;
-import com.intellij.psi.impl.source.PsiJavaFileImpl;
+import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -20,38 +25,44 @@ import lombok.experimental.UtilityClass;
 public class PsiFileUtils {
 
     /**
-     * 获取Java文件
+     * 获取Java文件: 按需遍历目录, 仅根据文件类型判断, 不加载PSI; 遍历中响应取消
      */
-    public static List<PsiJavaFile> getPsiJavaFiles(Project project, VirtualFile[] psiFiles) {
-        List<PsiJavaFile> files = Lists.newArrayListWithExpectedSize(psiFiles.length);
-        PsiManager psiManager = PsiManager.getInstance(project);
-        for (VirtualFile f : psiFiles) {
-            if (f.isDirectory()) {
-                VirtualFile[] children = f.getChildren();
-                List<PsiJavaFile> theFiles = getPsiJavaFiles(project, children);
-                files.addAll(theFiles);
-                continue;
+    public static Stream<VirtualFile> getJavaFiles(VirtualFile[] roots) {
+        Deque<VirtualFile> pending = new ArrayDeque<>(Arrays.asList(roots));
+        Iterator<VirtualFile> iterator = new AbstractIterator<VirtualFile>() {
+            @Override
+            protected VirtualFile computeNext() {
+                while (!pending.isEmpty()) {
+                    ProgressManager.checkCanceled();
+                    VirtualFile file = pending.poll();
+                    if (!file.isValid()) {
+                        continue;
+                    }
+                    if (file.isDirectory()) {
+                        VirtualFile[] children = file.getChildren();
+                        for (int i = children.length - 1; i >= 0; i--) {
+                            pending.push(children[i]);
+                        }
+                        continue;
+                    }
+                    if (FileTypeRegistry.getInstance().isFileOfType(file, JavaFileType.INSTANCE)) {
+                        return file;
+                    }
+                }
+                return endOfData();
             }
-            PsiFile file = psiManager.findFile(f);
-            if (file instanceof PsiJavaFileImpl) {
-                files.add((PsiJavaFileImpl) file);
-            }
-        }
-        return files;
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
     }
 
     /**
-     * 获取PsiClass
+     * 获取文件中的公共类, 不存在返回null
      */
-    public static List<PsiClass> getPsiClassByFile(List<PsiJavaFile> psiJavaFiles) {
-        List<PsiClass> psiClassList = Lists.newArrayListWithCapacity(psiJavaFiles.size());
-        for (PsiJavaFile psiJavaFile : psiJavaFiles) {
-            Arrays.stream(psiJavaFile.getClasses())
-                    .filter(o -> !o.isInterface()
-                            && o.getModifierList() != null
-                            && o.getModifierList().hasModifierProperty(PsiModifier.PUBLIC))
-                    .findFirst().ifPresent(psiClassList::add);
-        }
-        return psiClassList;
+    public static PsiClass getPsiClassByFile(PsiJavaFile psiJavaFile) {
+        return Arrays.stream(psiJavaFile.getClasses())
+                .filter(o -> !o.isInterface()
+                        && o.getModifierList() != null
+                        && o.getModifierList().hasModifierProperty(PsiModifier.PUBLIC))
+                .findFirst().orElse(null);
     }
 }
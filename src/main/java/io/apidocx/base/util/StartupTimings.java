@@ -0,0 +1,111 @@
+package io.apidocx.base.util;
+
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 启动耗时记录: 记录插件启动、首次动作各阶段的时间点(JVM启动后毫秒数), 以及重量级子系统首次使用耗时,
+ * 首次动作完成后写入日志目录, 便于对比优化前后的首次动作耗时.
+ */
+@UtilityClass
+public class StartupTimings {
+
+    public static final String PLUGIN_STARTUP = "pluginStartup";
+    public static final String FIRST_ACTION = "firstAction";
+    public static final String FIRST_ACTION_PARSED = "firstActionParsed";
+    public static final String FIRST_ACTION_HANDLED = "firstActionHandled";
+
+    private static final String FILE = "apidocx-startup.txt";
+
+    private static final Logger LOG = Logger.getInstance(StartupTimings.class);
+
+    /**
+     * 阶段 -> JVM启动后毫秒数
+     */
+    private static final Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * 子系统 -> 首次使用耗时毫秒数
+     */
+    private static final Map<String, Long> firstUses = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * 已开始计时的子系统, 并发首次使用时只有一个调用计时
+     */
+    private static final Set<String> timedSubsystems = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicBoolean reported = new AtomicBoolean(false);
+
+    /**
+     * 记录阶段时间点, 仅记录第一次
+     */
+    public static void mark(String phase) {
+        phases.putIfAbsent(phase, ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * 执行并记录子系统首次使用耗时(含类加载和初始化)
+     */
+    public static <T> T firstUse(String subsystem, Supplier<T> supplier) {
+        if (!timedSubsystems.add(subsystem)) {
+            return supplier.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            firstUses.put(subsystem, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * 输出报告, 仅首次动作完成后输出一次
+     */
+    public static void report() {
+        if (!reported.compareAndSet(false, true)) {
+            return;
+        }
+        String content = format();
+        LOG.info(content);
+        File file = new File(PathManager.getLogPath(), FILE);
+        try {
+            Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.warn("Write startup timings failed: " + e.getMessage());
+        }
+    }
+
+    public static String format() {
+        StringBuilder sb = new StringBuilder("Apidocx startup timings (ms since JVM start):\n");
+        synchronized (phases) {
+            phases.forEach((phase, millis) -> sb.append("  ").append(phase).append(": ").append(millis).append('\n'));
+        }
+        Long startup = phases.get(PLUGIN_STARTUP);
+        Long action = phases.get(FIRST_ACTION);
+        Long handled = phases.get(FIRST_ACTION_HANDLED);
+        if (action != null && handled != null) {
+            sb.append("  first action cost: ").append(handled - action).append('\n');
+        }
+        if (startup != null && handled != null) {
+            sb.append("  startup to first action: ").append(handled - startup).append('\n');
+        }
+        sb.append("First use (ms):\n");
+        synchronized (firstUses) {
+            firstUses.forEach((name, millis) -> sb.append("  ").append(name).append(": ").append(millis).append('\n'));
+        }
+        return sb.toString();
+    }
+}
@@ -117,6 +117,8 @@ public class ApidocxConfig {
      */
     private String timeFormat;
 
+    private static volatile ApidocxConfig internalConfig;
+
     private static final Pattern BEANS_PATTERN = Pattern.compile("^beans\\[(.+)]$");
 
     @Data
@@ -220,8 +222,7 @@ public class ApidocxConfig {
      * 合并配置
      */
     public static ApidocxConfig getMergedInternalConfig(ApidocxConfig settings) {
-        Properties properties = PropertiesLoader.getProperties(".yapix");
-        ApidocxConfig internal = ApidocxConfig.fromProperties(properties);
+        ApidocxConfig internal = getInternalConfig();
 
         ApidocxConfig config = new ApidocxConfig();
         config.setStrict(settings.isStrict());
@@ -293,6 +294,18 @@ public class ApidocxConfig {
         return config;
     }
 
+    /**
+     * 内置配置, 只解析一次
+     */
+    private static ApidocxConfig getInternalConfig() {
+        ApidocxConfig config = internalConfig;
+        if (config == null) {
+            config = ApidocxConfig.fromProperties(PropertiesLoader.getProperties(".yapix"));
+            internalConfig = config;
+        }
+        return config;
+    }
+
     public BeanCustom getBeanCustomSettings(String type) {
         BeanCustom custom = null;
         if (this.beans != null) {
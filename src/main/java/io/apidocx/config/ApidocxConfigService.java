@@ -0,0 +1,122 @@
+package io.apidocx.config;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import io.apidocx.base.util.BeanUtils;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 项目级别配置缓存: 按配置文件缓存合并后的配置, 文件修改后重新解析, 删除、移动或重命名后移除.
+ */
+public class ApidocxConfigService implements Disposable {
+
+    /**
+     * 无配置文件时的缓存键
+     */
+    private static final String DEFAULT_KEY = "";
+
+    private final Map<String, CachedConfig> cache = new ConcurrentHashMap<>();
+
+    public ApidocxConfigService(Project project) {
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void before(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (isRemoval(event) && event.getFile() != null) {
+                        evict(event.getFile().getUrl());
+                    }
+                }
+            }
+        });
+    }
+
+    public static ApidocxConfigService getInstance(Project project) {
+        return ServiceManager.getService(project, ApidocxConfigService.class);
+    }
+
+    /**
+     * 获取合并内置配置后的配置, 返回副本以便调用方修改
+     *
+     * @param file 配置文件, 为null时使用内置配置
+     */
+    public ApidocxConfig getConfig(@Nullable VirtualFile file) throws IOException {
+        String key = file != null ? file.getUrl() : DEFAULT_KEY;
+        long stamp = file != null ? file.getModificationStamp() : 0;
+        CachedConfig cached = cache.get(key);
+        if (cached == null || cached.stamp != stamp) {
+            ApidocxConfig config = file != null ? ApidocxConfigUtils.readConfig(file) : new ApidocxConfig();
+            ApidocxConfig merged = ApidocxConfig.getMergedInternalConfig(config);
+            if (merged.getMockRules() != null) {
+                merged.setMockRules(Collections.unmodifiableList(merged.getMockRules()));
+            }
+            cached = new CachedConfig(stamp, merged);
+            cache.put(key, cached);
+        }
+        return copy(cached.config);
+    }
+
+    @Override
+    public void dispose() {
+        cache.clear();
+    }
+
+    /**
+     * 复制配置, 集合字段也复制一份, 调用方修改不影响缓存.
+     * mock规则列表只读, 各副本共享同一实例, 使按列表实例缓存的{@link io.apidocx.parse.parser.MockRuleTable}在动作间复用
+     */
+    private static ApidocxConfig copy(ApidocxConfig source) {
+        ApidocxConfig copy = new ApidocxConfig();
+        BeanUtils.merge(copy, source);
+        if (source.getBeans() != null) {
+            copy.setBeans(Maps.newHashMap(source.getBeans()));
+        }
+        copy.setMockRules(source.getMockRules());
+        if (source.getReturnUnwrapTypes() != null) {
+            copy.setReturnUnwrapTypes(Lists.newArrayList(source.getReturnUnwrapTypes()));
+        }
+        if (source.getParameterIgnoreTypes() != null) {
+            copy.setParameterIgnoreTypes(Lists.newArrayList(source.getParameterIgnoreTypes()));
+        }
+        return copy;
+    }
+
+    private static boolean isRemoval(VFileEvent event) {
+        return event instanceof VFileDeleteEvent || event instanceof VFileMoveEvent
+                || (event instanceof VFilePropertyChangeEvent && ((VFilePropertyChangeEvent) event).isRename());
+    }
+
+    /**
+     * 移除文件或目录下所有配置文件的缓存
+     */
+    private void evict(String url) {
+        String prefix = url + "/";
+        cache.keySet().removeIf(key -> key.equals(url) || key.startsWith(prefix));
+    }
+
+    private static class CachedConfig {
+
+        private final long stamp;
+        private final ApidocxConfig config;
+
+        CachedConfig(long stamp, ApidocxConfig config) {
+            this.stamp = stamp;
+            this.config = config;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
 import com.intellij.util.xmlb.XmlSerializerUtil;
 import io.apidocx.action.ActionType;
+import io.apidocx.base.sdk.http.HttpTransport;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -17,6 +18,26 @@ public class ApidocxSettings implements PersistentStateComponent<ApidocxSettings
 
     private ActionType defaultAction = ActionType.YApi;
 
+    /**
+     * 是否开启解析性能剖析
+     */
+    private boolean profileEnabled = false;
+
+    /**
+     * 是否在索引完成后预热解析缓存
+     */
+    private boolean warmupEnabled = false;
+
+    /**
+     * 是否在保存时自动同步受影响的接口到默认平台
+     */
+    private boolean autoSyncEnabled = false;
+
+    /**
+     * 是否压缩较大的请求体, 需服务端支持gzip请求体
+     */
+    private boolean gzipRequestsEnabled = false;
+
     public static ApidocxSettings getInstance() {
         return ServiceManager.getService(ApidocxSettings.class);
     }
@@ -30,6 +51,7 @@ public class ApidocxSettings implements PersistentStateComponent<ApidocxSettings
     @Override
     public void loadState(@NotNull ApidocxSettings state) {
         XmlSerializerUtil.copyBean(state, this);
+        HttpTransport.setGzipRequests(gzipRequestsEnabled);
     }
 
     public ActionType getDefaultAction() {
@@ -40,6 +62,38 @@ public class ApidocxSettings implements PersistentStateComponent<ApidocxSettings
         this.defaultAction = defaultAction;
     }
 
+    public boolean isProfileEnabled() {
+        return profileEnabled;
+    }
+
+    public void setProfileEnabled(boolean profileEnabled) {
+        this.profileEnabled = profileEnabled;
+    }
+
+    public boolean isWarmupEnabled() {
+        return warmupEnabled;
+    }
+
+    public void setWarmupEnabled(boolean warmupEnabled) {
+        this.warmupEnabled = warmupEnabled;
+    }
+
+    public boolean isAutoSyncEnabled() {
+        return autoSyncEnabled;
+    }
+
+    public void setAutoSyncEnabled(boolean autoSyncEnabled) {
+        this.autoSyncEnabled = autoSyncEnabled;
+    }
+
+    public boolean isGzipRequestsEnabled() {
+        return gzipRequestsEnabled;
+    }
+
+    public void setGzipRequestsEnabled(boolean gzipRequestsEnabled) {
+        this.gzipRequestsEnabled = gzipRequestsEnabled;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -51,7 +105,10 @@ public class ApidocxSettings implements PersistentStateComponent<ApidocxSettings
 
         ApidocxSettings that = (ApidocxSettings) o;
 
-        return defaultAction == that.defaultAction;
+        return defaultAction == that.defaultAction && profileEnabled == that.profileEnabled
+                && warmupEnabled == that.warmupEnabled
+                && autoSyncEnabled == that.autoSyncEnabled
+                && gzipRequestsEnabled == that.gzipRequestsEnabled;
     }
 
 }
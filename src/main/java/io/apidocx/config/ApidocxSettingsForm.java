@@ -14,6 +14,10 @@ public class ApidocxSettingsForm {
     private JRadioButton eolinkRadioButton;
     private JRadioButton showdocRadioButton;
     private JRadioButton apifoxRadioButton;
+    private JCheckBox profileCheckBox;
+    private JCheckBox warmupCheckBox;
+    private JCheckBox autoSyncCheckBox;
+    private JCheckBox gzipRequestsCheckBox;
 
     public JPanel getPanel() {
         return panel;
@@ -37,6 +41,10 @@ public class ApidocxSettingsForm {
             default:
                 yapiRadioButton.doClick();
         }
+        profileCheckBox.setSelected(data.isProfileEnabled());
+        warmupCheckBox.setSelected(data.isWarmupEnabled());
+        autoSyncCheckBox.setSelected(data.isAutoSyncEnabled());
+        gzipRequestsCheckBox.setSelected(data.isGzipRequestsEnabled());
     }
 
     public ApidocxSettings get() {
@@ -55,6 +63,10 @@ public class ApidocxSettingsForm {
 
         ApidocxSettings data = new ApidocxSettings();
         data.setDefaultAction(defaultAction);
+        data.setProfileEnabled(profileCheckBox.isSelected());
+        data.setWarmupEnabled(warmupCheckBox.isSelected());
+        data.setAutoSyncEnabled(autoSyncCheckBox.isSelected());
+        data.setGzipRequestsEnabled(gzipRequestsCheckBox.isSelected());
         return data;
     }
 }
@@ -0,0 +1,84 @@
+package io.apidocx.config;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.apidocx.base.util.PasswordSafeUtils;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 应用级别凭证缓存: PasswordSafe读取较慢(例如Linux下通过D-Bus访问密钥环), 密码只读取一次, 配置存储时更新.
+ * <p>
+ * 读取在后台线程执行, 不占用缓存的锁, 也不在界面线程执行.
+ */
+public class CredentialCache {
+
+    /**
+     * 密码: key + 账户 -> 读取结果
+     */
+    private final Map<String, CompletableFuture<Optional<String>>> passwords = new ConcurrentHashMap<>();
+
+    public static CredentialCache getInstance() {
+        return ServiceManager.getService(CredentialCache.class);
+    }
+
+    /**
+     * 获取密码, 未加载时等待后台读取, 界面线程上显示进度等待
+     */
+    public String getPassword(String key, String account) {
+        if (account == null) {
+            return null;
+        }
+        CompletableFuture<Optional<String>> future = load(key, account);
+        if (!future.isDone() && ApplicationManager.getApplication().isDispatchThread()) {
+            ProgressManager.getInstance().runProcessWithProgressSynchronously(() -> {
+                future.join();
+            }, "Loading credentials", false, null);
+        }
+        try {
+            return future.join().orElse(null);
+        } catch (RuntimeException e) {
+            // 读取失败不缓存, 下次重新读取
+            passwords.remove(cacheKey(key, account), future);
+            return null;
+        }
+    }
+
+    /**
+     * 后台预加载密码
+     */
+    public void preload(String key, String account) {
+        if (account != null) {
+            load(key, account);
+        }
+    }
+
+    /**
+     * 存储密码: 立即更新缓存, 后台写入PasswordSafe
+     */
+    public void storePassword(String key, String account, String password) {
+        passwords.keySet().removeIf(k -> k.startsWith(key + "\n"));
+        if (account != null) {
+            passwords.put(cacheKey(key, account), CompletableFuture.completedFuture(Optional.ofNullable(password)));
+        }
+        ApplicationManager.getApplication()
+                .executeOnPooledThread(() -> PasswordSafeUtils.storePassword(key, account, password));
+    }
+
+    /**
+     * 每个账户只提交一次后台读取, 缓存中只登记任务
+     */
+    private CompletableFuture<Optional<String>> load(String key, String account) {
+        return passwords.computeIfAbsent(cacheKey(key, account), k -> CompletableFuture.supplyAsync(
+                () -> Optional.ofNullable(PasswordSafeUtils.getPassword(key, account)),
+                AppExecutorUtil.getAppExecutorService()));
+    }
+
+    private static String cacheKey(String key, String account) {
+        return key + "\n" + account;
+    }
+}
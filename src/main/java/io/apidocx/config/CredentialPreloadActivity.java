@@ -0,0 +1,31 @@
+package io.apidocx.config;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import io.apidocx.handle.apifox.config.ApifoxSettings;
+import io.apidocx.handle.eolink.config.EolinkSettings;
+import io.apidocx.handle.rap2.config.Rap2Settings;
+import io.apidocx.handle.showdoc.config.ShowdocSettings;
+import io.apidocx.handle.yapi.config.YapiSettings;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 启动后在后台预加载各平台密码, 避免首次上传时在界面线程读取PasswordSafe.
+ */
+public class CredentialPreloadActivity implements StartupActivity.Background {
+
+    private static final AtomicBoolean loaded = new AtomicBoolean(false);
+
+    @Override
+    public void runActivity(@NotNull Project project) {
+        if (!loaded.compareAndSet(false, true)) {
+            return;
+        }
+        YapiSettings.preloadPassword();
+        Rap2Settings.preloadPassword();
+        EolinkSettings.preloadPassword();
+        ApifoxSettings.preloadPassword();
+        ShowdocSettings.preloadPassword();
+    }
+}
@@ -0,0 +1,19 @@
+package io.apidocx.config;
+
+import com.intellij.ide.plugins.DynamicPluginListener;
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import io.apidocx.base.sdk.http.AsyncCalls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 插件卸载时释放全局资源: 关闭平台接口调用的线程池.
+ */
+public class PluginUnloadListener implements DynamicPluginListener {
+
+    @Override
+    public void beforePluginUnload(@NotNull IdeaPluginDescriptor pluginDescriptor, boolean isUpdate) {
+        if (DefaultConstants.ID.equals(pluginDescriptor.getPluginId().getIdString())) {
+            AsyncCalls.shutdown();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.apidocx.config;
+
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import io.apidocx.base.util.StartupTimings;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 记录插件启动时间点, 作为首次动作耗时对比的起点.
+ */
+public class StartupTimingsActivity implements StartupActivity, DumbAware {
+
+    @Override
+    public void runActivity(@NotNull Project project) {
+        StartupTimings.mark(StartupTimings.PLUGIN_STARTUP);
+    }
+}
@@ -6,22 +6,28 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.project.Project;
 import io.apidocx.action.AbstractAction;
+import io.apidocx.action.ActionType;
+import io.apidocx.action.SyncableAction;
 import io.apidocx.base.sdk.apifox.ApifoxClient;
 import io.apidocx.base.sdk.apifox.ApifoxWebUrlCalculator;
 import io.apidocx.base.sdk.apifox.model.TestResult;
+import io.apidocx.base.util.PreflightUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.handle.apifox.config.ApifoxSettings;
 import io.apidocx.handle.apifox.config.ApifoxSettingsDialog;
 import io.apidocx.handle.apifox.process.ApifoxUploader;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Apifox上传入口动作.
  */
-public class ApifoxUploadAction extends AbstractAction {
+public class ApifoxUploadAction extends AbstractAction implements SyncableAction {
 
     public static final String ACTION_TEXT = "Upload To Apifox";
 
@@ -35,30 +41,89 @@ public class ApifoxUploadAction extends AbstractAction {
 
         Project project = event.getData(CommonDataKeys.PROJECT);
         ApifoxSettings settings = ApifoxSettings.getInstance();
-        if (!settings.isValidate() || TestResult.Code.OK != settings.testSettings().getCode()) {
+        if (!settings.isValidate() || !preflight(project, settings)) {
             ApifoxSettingsDialog dialog = ApifoxSettingsDialog.show(project, event.getPresentation().getText());
             return !dialog.isCanceled();
         }
         return true;
     }
 
+    /**
+     * 连接检查: 后台执行, 有效期内检查通过的账户不再重复检查
+     */
+    private boolean preflight(Project project, ApifoxSettings settings) {
+        String platform = ActionType.Apifox.name();
+        if (PreflightUtils.isPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword())) {
+            return true;
+        }
+        TestResult testResult = PreflightUtils.runWithProgress(project, "Checking Apifox account",
+                settings::testSettings);
+        boolean passed = testResult != null && TestResult.Code.OK == testResult.getCode();
+        if (passed) {
+            PreflightUtils.markPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword());
+        }
+        return passed;
+    }
+
     @Override
     public void handle(AnActionEvent event, ApidocxConfig config, List<Api> apis) {
-        Project project = event.getData(CommonDataKeys.PROJECT);
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis);
+    }
+
+    @Override
+    protected void handleStream(AnActionEvent event, ApidocxConfig config, Iterator<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis, -1);
+    }
+
+    @Override
+    public boolean canSync(Project project, ApidocxConfig config) {
+        if (StringUtils.isEmpty(config.getApifoxProjectId())) {
+            return false;
+        }
+        ApifoxSettings settings = ApifoxSettings.getInstance();
+        return settings.isValidate() && preflight(project, settings);
+    }
+
+    @Override
+    public void upload(Project project, ApidocxConfig config, List<Api> apis) {
+        upload(project, config, apis.iterator(), apis.size());
+    }
+
+    private void upload(Project project, ApidocxConfig config, Iterator<Api> apis, int total) {
         Long projectId = Long.valueOf(config.getApifoxProjectId());
         ApifoxSettings settings = ApifoxSettings.getInstance();
         String webUrl = settings.getWebUrl();
 
         ApifoxClient client = new ApifoxClient(settings.getUrl(), settings.getAccount(), settings.getPassword(), settings.getAccessToken(), projectId);
         ApifoxUploader uploader = new ApifoxUploader(client);
-        super.handleUploadAsync(project, apis,
-                api -> {
-                    Long apiId = uploader.upload(projectId, api);
+        super.handleUploadAsync(project, apis, total,
+                api -> uploader.uploadAsync(projectId, api).thenApply(apiId -> {
                     ApiUploadResult result = new ApiUploadResult();
                     result.setCategoryUrl(ApifoxWebUrlCalculator.projectUrl(webUrl, projectId));
                     result.setApiUrl(ApifoxWebUrlCalculator.apiUrl(webUrl, projectId, apiId));
                     return result;
-                }, null);
+                }), () -> {
+                    // 保存上传过程中重新登录的令牌, 检查通过的有效期内不会再经过testSettings
+                    if (StringUtils.isNotEmpty(client.getAccessToken())) {
+                        settings.setAccessToken(client.getAccessToken());
+                    }
+                    return null;
+                });
+    }
+
+    @Override
+    protected boolean isStreamHandle() {
+        return true;
+    }
+
+    @Override
+    protected boolean isHandlePerModule() {
+        return true;
+    }
+
+    @Override
+    public Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.of(ApiAttribute.PROPERTY_MOCK);
     }
 
     @Override
@@ -9,7 +9,7 @@ import com.intellij.util.xmlb.annotations.Transient;
 import io.apidocx.base.sdk.apifox.ApifoxClient;
 import io.apidocx.base.sdk.apifox.model.TestResult;
 import io.apidocx.base.sdk.apifox.model.TestResult.Code;
-import io.apidocx.base.util.PasswordSafeUtils;
+import io.apidocx.config.CredentialCache;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -50,17 +50,25 @@ public class ApifoxSettings implements PersistentStateComponent<ApifoxSettings>
     /**
      * 登录后的cookies
      */
-    private String accessToken;
+    private volatile String accessToken;
 
     public static ApifoxSettings getInstance() {
         ApifoxSettings settings = ServiceManager.getService(ApifoxSettings.class);
-        settings.password = PasswordSafeUtils.getPassword(PASSWORD_KEY, settings.account);
+        settings.password = CredentialCache.getInstance().getPassword(PASSWORD_KEY, settings.account);
         return settings;
     }
 
     public static void storeInstance(@NotNull ApifoxSettings state) {
         getInstance().loadState(state);
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
+        CredentialCache.getInstance().storePassword(PASSWORD_KEY, state.account, state.password);
+    }
+
+    /**
+     * 后台预加载密码
+     */
+    public static void preloadPassword() {
+        ApifoxSettings settings = ServiceManager.getService(ApifoxSettings.class);
+        CredentialCache.getInstance().preload(PASSWORD_KEY, settings.account);
     }
 
     @Nullable
@@ -71,7 +79,6 @@ public class ApifoxSettings implements PersistentStateComponent<ApifoxSettings>
 
     @Override
     public void loadState(@NotNull ApifoxSettings state) {
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
         XmlSerializerUtil.copyBean(state, this);
     }
 
@@ -1,6 +1,8 @@
 package io.apidocx.handle.apifox.config;
 
 import com.intellij.openapi.options.Configurable;
+import io.apidocx.action.ActionType;
+import io.apidocx.base.util.PreflightUtils;
 import javax.swing.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.Nls.Capitalization;
@@ -39,6 +41,7 @@ public class ApifoxSettingsConfiguration implements Configurable {
     public void apply() {
         ApifoxSettings data = form.get();
         ApifoxSettings.storeInstance(data);
+        PreflightUtils.invalidate(ActionType.Apifox.name());
     }
 
     @Override
@@ -3,8 +3,10 @@ package io.apidocx.handle.apifox.config;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.ValidationInfo;
+import io.apidocx.action.ActionType;
 import io.apidocx.base.sdk.apifox.model.TestResult;
 import io.apidocx.base.sdk.apifox.model.TestResult.Code;
+import io.apidocx.base.util.PreflightUtils;
 import javax.swing.*;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -55,11 +57,16 @@ public class ApifoxSettingsDialog extends DialogWrapper {
         }
 
         // 登录校验
-        TestResult testResult = settings.testSettings();
+        TestResult testResult = PreflightUtils.runWithProgress(null, "Checking Apifox account", settings::testSettings);
+        if (testResult == null) {
+            return;
+        }
         Code code = testResult.getCode();
         if (code == Code.OK) {
             settings.setAccessToken(testResult.getAccessToken());
             ApifoxSettings.storeInstance(settings);
+            PreflightUtils.markPassed(ActionType.Apifox.name(), settings.getUrl(), settings.getAccount(),
+                    settings.getPassword());
             super.doOKAction();
         }
         if (code == Code.NETWORK_ERROR) {
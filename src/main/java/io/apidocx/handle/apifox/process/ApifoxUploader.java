@@ -5,10 +5,12 @@ import io.apidocx.base.sdk.apifox.model.ApiDetail;
 import io.apidocx.base.sdk.apifox.model.ApiFolder;
 import io.apidocx.base.sdk.apifox.model.ApiTreeItem;
 import io.apidocx.base.sdk.apifox.model.CreateFolderRequest;
+import io.apidocx.base.sdk.http.AsyncCalls;
 import io.apidocx.model.Api;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
@@ -26,25 +28,49 @@ public class ApifoxUploader {
     }
 
     public Long upload(Long projectId, Api api) {
+        return AsyncCalls.join(uploadAsync(projectId, api));
+    }
+
+    /**
+     * 异步上传: 目录 -> 查找原接口 -> 保存
+     */
+    public CompletableFuture<Long> uploadAsync(Long projectId, Api api) {
         api.setCategory(ApifoxUtils.folderPath(api.getCategory()));
         ApiDetail data = new ApifoxDataConvector().convert(projectId, api);
-        Long folderId = getOrCreateFolder(projectId, api.getCategory());
-        data.setFolderId(folderId);
-        return saveApi(api, data);
+        return client.async(c -> getOrCreateFolder(projectId, api.getCategory()))
+                .thenCompose(folderId -> {
+                    data.setFolderId(folderId);
+                    return saveApiAsync(api, data);
+                });
     }
 
-    private Long saveApi(Api api, ApiDetail data) {
-        ApiDetail originalApi = getApiDetail(data.getProjectId(), api.getCategory(), data.getName(), data.getMethod(), data.getPath());
-        if (originalApi != null) {
-            data.setId(originalApi.getId());
-            data.setType(originalApi.getType());
-            data.setStatus(originalApi.getStatus());
-        }
-        return client.saveApiDetail(data);
+    private CompletableFuture<Long> saveApiAsync(Api api, ApiDetail data) {
+        return getApiDetailAsync(data.getProjectId(), api.getCategory(), data.getName(), data.getMethod(),
+                data.getPath())
+                .thenCompose(originalApi -> {
+                    if (originalApi != null) {
+                        data.setId(originalApi.getId());
+                        data.setType(originalApi.getType());
+                        data.setStatus(originalApi.getStatus());
+                    }
+                    return client.async(c -> c.saveApiDetail(data));
+                });
+    }
+
+    private CompletableFuture<ApiDetail> getApiDetailAsync(Long projectId, String folderPath, String title,
+                                                           String method, String path) {
+        return client.async(c -> c.getApiTreeList(projectId))
+                .thenCompose(apiTree -> {
+                    ApiTreeItem apiItem = findApiItem(apiTree, folderPath, title, method, path);
+                    if (apiItem != null) {
+                        return client.async(c -> c.getApiDetail(apiItem.getApi().getId()));
+                    }
+                    return CompletableFuture.completedFuture(null);
+                });
     }
 
-    private ApiDetail getApiDetail(Long projectId, String folderPath, String title, String method, String path) {
-        List<ApiTreeItem> apiTree = client.getApiTreeList(projectId);
+    private static ApiTreeItem findApiItem(List<ApiTreeItem> apiTree, String folderPath, String title, String method,
+                                           String path) {
         List<ApiTreeItem> apiTreeItems = ApifoxUtils.flatApiTree(apiTree);
         Map<String, List<ApiTreeItem>> folderApisMap = apiTreeItems.stream().collect(Collectors.groupingBy(ApiTreeItem::getFolderPath));
         List<ApiTreeItem> folderApis = folderApisMap.getOrDefault(folderPath, Collections.emptyList());
@@ -74,12 +100,7 @@ public class ApifoxUploader {
                     .findFirst()
                     .orElse(null);
         }
-
-        if (apiItem != null) {
-            return client.getApiDetail(apiItem.getApi().getId());
-        }
-
-        return null;
+        return apiItem;
     }
 
     private Long getOrCreateFolder(Long projectId, String path) {
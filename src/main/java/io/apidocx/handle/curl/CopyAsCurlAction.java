@@ -4,24 +4,21 @@ import static io.apidocx.base.util.NotificationUtils.notifyInfo;
 import static io.apidocx.base.util.NotificationUtils.notifyWarning;
 
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.actionSystem.CommonDataKeys;
-import com.intellij.openapi.editor.Editor;
-import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiMethod;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.openapi.actionSystem.UpdateInBackground;
 import io.apidocx.action.AbstractAction;
+import io.apidocx.action.CaretSelection;
 import io.apidocx.base.util.ClipboardUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
 import java.util.List;
+import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * 复制成Curl字符串处理器
  */
-public class CopyAsCurlAction extends AbstractAction {
+public class CopyAsCurlAction extends AbstractAction implements UpdateInBackground {
 
     public static final String ACTION_TEXT = "Copy as cURL";
 
@@ -48,6 +45,11 @@ public class CopyAsCurlAction extends AbstractAction {
         notifyInfo(ACTION_TEXT, "copied to clipboard");
     }
 
+    @Override
+    protected Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.none();
+    }
+
     @Override
     public void update(@NotNull AnActionEvent e) {
         e.getPresentation().setText(ACTION_TEXT);
@@ -58,16 +60,9 @@ public class CopyAsCurlAction extends AbstractAction {
      * 是否选中了方法
      */
     private boolean isSelectedMethod(@NotNull AnActionEvent e) {
-        Editor editor = e.getDataContext().getData(CommonDataKeys.EDITOR);
-        PsiFile editorFile = e.getDataContext().getData(CommonDataKeys.PSI_FILE);
-        if (editor != null && editorFile != null) {
-
-            PsiElement referenceAt = editorFile.findElementAt(editor.getCaretModel().getOffset());
-            PsiClass selectClass = PsiTreeUtil.getContextOfType(referenceAt, PsiClass.class);
-            if (selectClass != null) {
-                PsiMethod method = PsiTreeUtil.getContextOfType(referenceAt, PsiMethod.class);
-                return method != null;
-            }
+        CaretSelection selection = CaretSelection.of(e);
+        if (selection != null && selection.isInClass()) {
+            return selection.isInMethod();
         }
         return true;
     }
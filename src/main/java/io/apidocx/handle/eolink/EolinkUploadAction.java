@@ -6,23 +6,29 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.project.Project;
 import io.apidocx.action.AbstractAction;
+import io.apidocx.action.ActionType;
+import io.apidocx.action.SyncableAction;
 import io.apidocx.base.sdk.eolink.EolinkClient;
 import io.apidocx.base.sdk.eolink.EolinkWebUrlCalculator;
 import io.apidocx.base.sdk.eolink.model.ApiInfo;
 import io.apidocx.base.sdk.eolink.request.TestResult;
+import io.apidocx.base.util.PreflightUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.handle.eolink.config.EolinkSettings;
 import io.apidocx.handle.eolink.config.EolinkSettingsDialog;
 import io.apidocx.handle.eolink.process.EolinkUploader;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Eolink上传入口动作.
  */
-public class EolinkUploadAction extends AbstractAction {
+public class EolinkUploadAction extends AbstractAction implements SyncableAction {
 
     public static final String ACTION_TEXT = "Upload To Eolink";
 
@@ -36,33 +42,91 @@ public class EolinkUploadAction extends AbstractAction {
 
         Project project = event.getData(CommonDataKeys.PROJECT);
         EolinkSettings settings = EolinkSettings.getInstance();
-        if (!settings.isValidate() || TestResult.Code.OK != settings.testSettings().getCode()) {
+        if (!settings.isValidate() || !preflight(project, settings)) {
             EolinkSettingsDialog dialog = EolinkSettingsDialog.show(project, event.getPresentation().getText());
             return !dialog.isCanceled();
         }
         return true;
     }
 
+    /**
+     * 连接检查: 后台执行, 有效期内检查通过的账户不再重复检查
+     */
+    private boolean preflight(Project project, EolinkSettings settings) {
+        String platform = ActionType.Eolink.name();
+        if (PreflightUtils.isPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword())) {
+            return true;
+        }
+        TestResult testResult = PreflightUtils.runWithProgress(project, "Checking Eolink account",
+                settings::testSettings);
+        boolean passed = testResult != null && TestResult.Code.OK == testResult.getCode();
+        if (passed) {
+            PreflightUtils.markPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword());
+        }
+        return passed;
+    }
+
     @Override
     public void handle(AnActionEvent event, ApidocxConfig config, List<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis);
+    }
+
+    @Override
+    protected void handleStream(AnActionEvent event, ApidocxConfig config, Iterator<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis, -1);
+    }
+
+    @Override
+    public boolean canSync(Project project, ApidocxConfig config) {
+        if (StringUtils.isEmpty(config.getEolinkProjectId())) {
+            return false;
+        }
+        EolinkSettings settings = EolinkSettings.getInstance();
+        return settings.isValidate() && preflight(project, settings);
+    }
+
+    @Override
+    public void upload(Project project, ApidocxConfig config, List<Api> apis) {
+        upload(project, config, apis.iterator(), apis.size());
+    }
+
+    private void upload(Project project, ApidocxConfig config, Iterator<Api> apis, int total) {
         String projectId = config.getEolinkProjectId();
-        Project project = event.getData(CommonDataKeys.PROJECT);
 
         EolinkSettings settings = EolinkSettings.getInstance();
         EolinkClient client = new EolinkClient(settings.getUrl(), settings.getLoginUrl(), settings.getAccount(), settings.getPassword(), settings.getAccessToken());
         EolinkUploader uploader = new EolinkUploader(client);
         EolinkWebUrlCalculator urlCalculator = new EolinkWebUrlCalculator(settings.getWebUrl());
 
-        super.handleUploadAsync(project, apis,
-                api -> {
-                    ApiInfo eapi = uploader.upload(projectId, api);
-
+        super.handleUploadAsync(project, apis, total,
+                api -> uploader.uploadAsync(projectId, api).thenApply(eapi -> {
                     ApiUploadResult result = new ApiUploadResult();
                     result.setCategoryUrl(urlCalculator.calculateApiListUrl(projectId,
                             eapi.getBaseInfo().getGroupID()));
                     result.setApiUrl(result.getCategoryUrl());
                     return result;
-                }, null);
+                }), () -> {
+                    // 保存上传过程中重新登录的令牌, 检查通过的有效期内不会再经过testSettings
+                    if (StringUtils.isNotEmpty(client.getAccessToken())) {
+                        settings.setAccessToken(client.getAccessToken());
+                    }
+                    return null;
+                });
+    }
+
+    @Override
+    protected boolean isStreamHandle() {
+        return true;
+    }
+
+    @Override
+    protected boolean isHandlePerModule() {
+        return true;
+    }
+
+    @Override
+    public Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.of(ApiAttribute.PROPERTY_MOCK);
     }
 
     @Override
@@ -9,7 +9,7 @@ import com.intellij.util.xmlb.annotations.Transient;
 import io.apidocx.base.sdk.eolink.EolinkClient;
 import io.apidocx.base.sdk.eolink.request.TestResult;
 import io.apidocx.base.sdk.eolink.request.TestResult.Code;
-import io.apidocx.base.util.PasswordSafeUtils;
+import io.apidocx.config.CredentialCache;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -55,18 +55,26 @@ public class EolinkSettings implements PersistentStateComponent<EolinkSettings>
     /**
      * 登录后的cookies
      */
-    private String accessToken;
+    private volatile String accessToken;
 
 
     public static EolinkSettings getInstance() {
         EolinkSettings settings = ServiceManager.getService(EolinkSettings.class);
-        settings.password = PasswordSafeUtils.getPassword(PASSWORD_KEY, settings.account);
+        settings.password = CredentialCache.getInstance().getPassword(PASSWORD_KEY, settings.account);
         return settings;
     }
 
     public static void storeInstance(@NotNull EolinkSettings state) {
         getInstance().loadState(state);
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
+        CredentialCache.getInstance().storePassword(PASSWORD_KEY, state.account, state.password);
+    }
+
+    /**
+     * 后台预加载密码
+     */
+    public static void preloadPassword() {
+        EolinkSettings settings = ServiceManager.getService(EolinkSettings.class);
+        CredentialCache.getInstance().preload(PASSWORD_KEY, settings.account);
     }
 
 
@@ -78,7 +86,6 @@ public class EolinkSettings implements PersistentStateComponent<EolinkSettings>
 
     @Override
     public void loadState(@NotNull EolinkSettings state) {
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
         XmlSerializerUtil.copyBean(state, this);
     }
 
@@ -1,6 +1,8 @@
 package io.apidocx.handle.eolink.config;
 
 import com.intellij.openapi.options.Configurable;
+import io.apidocx.action.ActionType;
+import io.apidocx.base.util.PreflightUtils;
 import javax.swing.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.Nls.Capitalization;
@@ -39,6 +41,7 @@ public class EolinkSettingsConfiguration implements Configurable {
     public void apply() {
         EolinkSettings data = form.get();
         EolinkSettings.storeInstance(data);
+        PreflightUtils.invalidate(ActionType.Eolink.name());
     }
 
     @Override
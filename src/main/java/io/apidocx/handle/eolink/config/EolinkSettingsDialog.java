@@ -3,7 +3,9 @@ package io.apidocx.handle.eolink.config;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.ValidationInfo;
+import io.apidocx.action.ActionType;
 import io.apidocx.base.sdk.eolink.request.TestResult;
+import io.apidocx.base.util.PreflightUtils;
 import javax.swing.*;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -53,13 +55,18 @@ public class EolinkSettingsDialog extends DialogWrapper {
         settings.setAccessToken(originSettings.getAccessToken());
 
         // 测试账户
-        TestResult testResult = settings.testSettings();
+        TestResult testResult = PreflightUtils.runWithProgress(null, "Checking Eolink account", settings::testSettings);
+        if (testResult == null) {
+            return;
+        }
         TestResult.Code code = testResult.getCode();
         if (code == TestResult.Code.OK) {
             settings.setAccessToken(testResult.getCookies());
 
             // 存储配置
             EolinkSettings.storeInstance(settings);
+            PreflightUtils.markPassed(ActionType.Eolink.name(), settings.getUrl(), settings.getAccount(),
+                    settings.getPassword());
             super.doOKAction();
         }
         if (code == TestResult.Code.NETWORK_ERROR) {
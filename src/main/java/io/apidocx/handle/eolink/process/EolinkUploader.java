@@ -6,12 +6,14 @@ import io.apidocx.base.sdk.eolink.model.ApiGroup;
 import io.apidocx.base.sdk.eolink.model.ApiInfo;
 import io.apidocx.base.sdk.eolink.request.ApiSaveResponse;
 import io.apidocx.base.sdk.eolink.request.GroupAddRequest;
+import io.apidocx.base.sdk.http.AsyncCalls;
 import io.apidocx.base.util.BeanUtils;
 import io.apidocx.model.Api;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -21,32 +23,43 @@ public class EolinkUploader {
 
     private final EolinkClient client;
 
-    private final Map<String, Long> groupCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Long>> groupCache = new ConcurrentHashMap<>();
 
     public EolinkUploader(EolinkClient client) {
         this.client = client;
     }
 
     public ApiInfo upload(String projectId, Api api) {
+        return AsyncCalls.join(uploadAsync(projectId, api));
+    }
+
+    /**
+     * 异步上传: 分组 -> 查找原接口 -> 保存
+     */
+    public CompletableFuture<ApiInfo> uploadAsync(String projectId, Api api) {
         ApiInfo eapi = EolinkDataConvector.convert(projectId, api);
         ApiBase eapiBase = eapi.getBaseInfo();
         // 分组
-        List<ApiGroup> groups = client.getGroupList(projectId);
-        eapiBase.setGroupID(getOrCreateGroup(groups, projectId, eapiBase.getGroupName()));
-
-        // 接口
-        ApiInfo theApi = findOriginApi(projectId, eapi);
-        if (theApi != null) {
-            mergeApi(theApi, eapi);
-        } else {
-            theApi = eapi;
-        }
-
-        // 保存
-        ApiSaveResponse apiSaveResponse = client.saveApi(projectId, theApi);
-        theApi.getBaseInfo().setApiID(apiSaveResponse.getApiID());
-        theApi.getBaseInfo().setGroupID(apiSaveResponse.getGroupID());
-        return theApi;
+        return getOrCreateGroupAsync(projectId, eapiBase.getGroupName())
+                .thenCompose(groupId -> {
+                    eapiBase.setGroupID(groupId);
+                    return findOriginApiAsync(projectId, eapi);
+                })
+                .thenCompose(originApi -> {
+                    // 接口
+                    ApiInfo theApi = eapi;
+                    if (originApi != null) {
+                        mergeApi(originApi, eapi);
+                        theApi = originApi;
+                    }
+                    // 保存
+                    ApiInfo saveApi = theApi;
+                    return client.async(c -> c.saveApi(projectId, saveApi)).thenApply(apiSaveResponse -> {
+                        saveApi.getBaseInfo().setApiID(apiSaveResponse.getApiID());
+                        saveApi.getBaseInfo().setGroupID(apiSaveResponse.getGroupID());
+                        return saveApi;
+                    });
+                });
     }
 
     private void mergeApi(ApiInfo theApi, ApiInfo eapi) {
@@ -57,30 +70,42 @@ public class EolinkUploader {
     }
 
     /**
-     * 创建获取获取分组
+     * 创建获取获取分组, 同一分组的并发请求共享一次查询
      */
-    private Long getOrCreateGroup(List<ApiGroup> groups, String projectId, String groupName) {
-        return groupCache.computeIfAbsent(groupName, key -> {
-            Optional<ApiGroup> groupOpt = groups.stream()
-                    .filter(g -> g.getGroupDepth() == 1 && g.getGroupName().equals(groupName))
-                    .findFirst();
-            if (groupOpt.isPresent()) {
-                return groupOpt.get().getGroupID();
-            }
-            GroupAddRequest request = new GroupAddRequest();
-            request.setGroupName(groupName);
-            request.setProjectHashKey(projectId);
-            request.setParentGroupID("0");
-            return client.createGroup(request);
-        });
+    private CompletableFuture<Long> getOrCreateGroupAsync(String projectId, String groupName) {
+        return AsyncCalls.memoize(groupCache, groupName,
+                () -> client.async(c -> doGetOrCreateGroup(c.getGroupList(projectId), projectId, groupName)));
+    }
+
+    private Long doGetOrCreateGroup(List<ApiGroup> groups, String projectId, String groupName) {
+        Optional<ApiGroup> groupOpt = groups.stream()
+                .filter(g -> g.getGroupDepth() == 1 && g.getGroupName().equals(groupName))
+                .findFirst();
+        if (groupOpt.isPresent()) {
+            return groupOpt.get().getGroupID();
+        }
+        GroupAddRequest request = new GroupAddRequest();
+        request.setGroupName(groupName);
+        request.setProjectHashKey(projectId);
+        request.setParentGroupID("0");
+        return client.createGroup(request);
     }
 
     /**
      * 获取原接口信息
      */
-    private ApiInfo findOriginApi(String projectId, ApiInfo eapi) {
-        ApiBase api = eapi.getBaseInfo();
-        List<ApiBase> apis = client.getApiList(projectId, eapi.getBaseInfo().getGroupID());
+    private CompletableFuture<ApiInfo> findOriginApiAsync(String projectId, ApiInfo eapi) {
+        return client.async(c -> c.getApiList(projectId, eapi.getBaseInfo().getGroupID()))
+                .thenCompose(apis -> {
+                    ApiBase origin = findOriginApi(apis, eapi.getBaseInfo());
+                    if (origin != null) {
+                        return client.async(c -> c.getApi(projectId, origin.getApiID()));
+                    }
+                    return CompletableFuture.completedFuture(null);
+                });
+    }
+
+    private static ApiBase findOriginApi(List<ApiBase> apis, ApiBase api) {
 
         // 比较条件: 接口标题， 路径，请求方式
         Optional<ApiBase> interfaceOpt = apis.stream()
@@ -103,10 +128,7 @@ public class EolinkUploader {
                     .findFirst();
         }
 
-        if (interfaceOpt.isPresent()) {
-            return client.getApi(projectId, interfaceOpt.get().getApiID());
-        }
-        return null;
+        return interfaceOpt.orElse(null);
     }
 
 }
@@ -6,7 +6,9 @@ import io.apidocx.base.util.ClipboardUtils;
 import io.apidocx.base.util.NotificationUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
 import java.util.List;
+import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -27,6 +29,11 @@ public class CopyAsMarkdownAction extends AbstractAction {
         NotificationUtils.notifyInfo(ACTION_TEXT, "copied to clipboard");
     }
 
+    @Override
+    protected Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.none();
+    }
+
     @Override
     public void update(@NotNull AnActionEvent e) {
         e.getPresentation().setText(ACTION_TEXT);
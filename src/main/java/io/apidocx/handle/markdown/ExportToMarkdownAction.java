@@ -8,9 +8,11 @@ import io.apidocx.base.util.NotificationUtils;
 import io.apidocx.base.util.PsiModuleUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -40,6 +42,11 @@ public class ExportToMarkdownAction extends AbstractAction {
     }
 
 
+    @Override
+    protected Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.none();
+    }
+
     @Override
     public void update(@NotNull AnActionEvent e) {
         e.getPresentation().setText(ACTION_TEXT);
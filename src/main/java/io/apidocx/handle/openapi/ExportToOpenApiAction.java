@@ -8,10 +8,12 @@ import io.apidocx.base.util.NotificationUtils;
 import io.apidocx.base.util.PsiModuleUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
 import io.swagger.v3.oas.models.OpenAPI;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -46,6 +48,11 @@ public class ExportToOpenApiAction extends AbstractAction {
         }
     }
 
+    @Override
+    protected Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.none();
+    }
+
     @Override
     public void update(@NotNull AnActionEvent e) {
         e.getPresentation().setText(ACTION_TEXT);
@@ -6,23 +6,30 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.project.Project;
 import io.apidocx.action.AbstractAction;
+import io.apidocx.action.ActionType;
+import io.apidocx.action.SyncableAction;
 import io.apidocx.base.sdk.rap2.Rap2Client;
+import io.apidocx.base.sdk.rap2.dto.TestResult;
 import io.apidocx.base.sdk.rap2.dto.TestResult.Code;
 import io.apidocx.base.sdk.rap2.model.Rap2Interface;
 import io.apidocx.base.sdk.rap2.util.Rap2WebUrlCalculator;
+import io.apidocx.base.util.PreflightUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.handle.rap2.config.Rap2Settings;
 import io.apidocx.handle.rap2.config.Rap2SettingsDialog;
 import io.apidocx.handle.rap2.process.Rap2Uploader;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Rap2上传入口动作.
  */
-public class Rap2UploadAction extends AbstractAction {
+public class Rap2UploadAction extends AbstractAction implements SyncableAction {
 
     public static final String ACTION_TEXT = "Upload To Rap2";
 
@@ -36,17 +43,56 @@ public class Rap2UploadAction extends AbstractAction {
 
         Project project = event.getData(CommonDataKeys.PROJECT);
         Rap2Settings settings = Rap2Settings.getInstance();
-        if (!settings.isValidate() || Code.OK != settings.testSettings(null, null).getCode()) {
+        if (!settings.isValidate() || !preflight(project, settings)) {
             Rap2SettingsDialog dialog = Rap2SettingsDialog.show(project, event.getPresentation().getText());
             return !dialog.isCanceled();
         }
         return true;
     }
 
+    /**
+     * 连接检查: 后台执行, 有效期内检查通过的账户不再重复检查
+     */
+    private boolean preflight(Project project, Rap2Settings settings) {
+        String platform = ActionType.Rap2.name();
+        if (PreflightUtils.isPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword())) {
+            return true;
+        }
+        TestResult testResult = PreflightUtils.runWithProgress(project, "Checking Rap2 account",
+                () -> settings.testSettings(null, null));
+        boolean passed = testResult != null && Code.OK == testResult.getCode();
+        if (passed) {
+            PreflightUtils.markPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword());
+        }
+        return passed;
+    }
+
     @Override
     public void handle(AnActionEvent event, ApidocxConfig config, List<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis);
+    }
+
+    @Override
+    protected void handleStream(AnActionEvent event, ApidocxConfig config, Iterator<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis, -1);
+    }
+
+    @Override
+    public boolean canSync(Project project, ApidocxConfig config) {
+        if (StringUtils.isEmpty(config.getRap2ProjectId())) {
+            return false;
+        }
+        Rap2Settings settings = Rap2Settings.getInstance();
+        return settings.isValidate() && preflight(project, settings);
+    }
+
+    @Override
+    public void upload(Project project, ApidocxConfig config, List<Api> apis) {
+        upload(project, config, apis.iterator(), apis.size());
+    }
+
+    private void upload(Project project, ApidocxConfig config, Iterator<Api> apis, int total) {
         Integer projectId = Integer.valueOf(config.getRap2ProjectId());
-        Project project = event.getData(CommonDataKeys.PROJECT);
 
         Rap2Settings settings = Rap2Settings.getInstance();
         Rap2Client client = new Rap2Client(settings.getUrl(), settings.getAccount(), settings.getPassword(),
@@ -54,10 +100,8 @@ public class Rap2UploadAction extends AbstractAction {
         Rap2Uploader uploader = new Rap2Uploader(client);
         Rap2WebUrlCalculator urlCalculator = new Rap2WebUrlCalculator(settings.getWebUrl());
 
-        super.handleUploadAsync(project, apis,
-                api -> {
-                    Rap2Interface rapi = uploader.upload(projectId, api);
-
+        super.handleUploadAsync(project, apis, total,
+                api -> uploader.uploadAsync(projectId, api).thenApply(rapi -> {
                     ApiUploadResult result = new ApiUploadResult();
                     result.setApiUrl(
                             urlCalculator.calculateEditorUrl(rapi.getRepositoryId(), rapi.getModuleId(), rapi.getId())
@@ -66,10 +110,34 @@ public class Rap2UploadAction extends AbstractAction {
                             urlCalculator.calculateEditorUrl(rapi.getRepositoryId(), rapi.getModuleId(), null)
                     );
                     return result;
-                }, null);
+                }), () -> {
+                    // 保存上传过程中的cookies及其登录用户, 检查通过的有效期内不会再经过testSettings
+                    if (StringUtils.isNotEmpty(client.getCookies())) {
+                        settings.setCookies(client.getCookies());
+                        if (client.getCurrentUser() != null) {
+                            settings.setCookiesUserId(client.getCurrentUser().getId());
+                        }
+                    }
+                    return null;
+                });
     }
 
 
+    @Override
+    protected boolean isStreamHandle() {
+        return true;
+    }
+
+    @Override
+    protected boolean isHandlePerModule() {
+        return true;
+    }
+
+    @Override
+    public Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.of(ApiAttribute.API_DESCRIPTION, ApiAttribute.PROPERTY_MOCK);
+    }
+
     @Override
     public void update(@NotNull AnActionEvent e) {
         e.getPresentation().setText(ACTION_TEXT);
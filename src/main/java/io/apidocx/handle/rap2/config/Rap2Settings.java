@@ -8,7 +8,7 @@ import com.intellij.util.xmlb.XmlSerializerUtil;
 import com.intellij.util.xmlb.annotations.Transient;
 import io.apidocx.base.sdk.rap2.Rap2Client;
 import io.apidocx.base.sdk.rap2.dto.TestResult;
-import io.apidocx.base.util.PasswordSafeUtils;
+import io.apidocx.config.CredentialCache;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -49,7 +49,7 @@ public class Rap2Settings implements PersistentStateComponent<Rap2Settings> {
     /**
      * 登录后的cookies
      */
-    private String cookies;
+    private volatile String cookies;
 
     /**
      * 授权用户id
@@ -58,13 +58,21 @@ public class Rap2Settings implements PersistentStateComponent<Rap2Settings> {
 
     public static Rap2Settings getInstance() {
         Rap2Settings settings = ServiceManager.getService(Rap2Settings.class);
-        settings.password = PasswordSafeUtils.getPassword(PASSWORD_KEY, settings.account);
+        settings.password = CredentialCache.getInstance().getPassword(PASSWORD_KEY, settings.account);
         return settings;
     }
 
     public static void storeInstance(@NotNull Rap2Settings state) {
         getInstance().loadState(state);
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
+        CredentialCache.getInstance().storePassword(PASSWORD_KEY, state.account, state.password);
+    }
+
+    /**
+     * 后台预加载密码
+     */
+    public static void preloadPassword() {
+        Rap2Settings settings = ServiceManager.getService(Rap2Settings.class);
+        CredentialCache.getInstance().preload(PASSWORD_KEY, settings.account);
     }
 
     @Nullable
@@ -75,7 +83,6 @@ public class Rap2Settings implements PersistentStateComponent<Rap2Settings> {
 
     @Override
     public void loadState(@NotNull Rap2Settings state) {
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
         XmlSerializerUtil.copyBean(state, this);
     }
 
@@ -1,6 +1,8 @@
 package io.apidocx.handle.rap2.config;
 
 import com.intellij.openapi.options.Configurable;
+import io.apidocx.action.ActionType;
+import io.apidocx.base.util.PreflightUtils;
 import javax.swing.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.Nls.Capitalization;
@@ -39,6 +41,7 @@ public class Rap2SettingsConfiguration implements Configurable {
     public void apply() {
         Rap2Settings data = form.get();
         Rap2Settings.storeInstance(data);
+        PreflightUtils.invalidate(ActionType.Rap2.name());
     }
 
     @Override
@@ -3,10 +3,13 @@ package io.apidocx.handle.rap2.config;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.ValidationInfo;
+import io.apidocx.action.ActionType;
 import io.apidocx.base.sdk.rap2.Rap2Client;
 import io.apidocx.base.sdk.rap2.dto.CaptchaResponse;
 import io.apidocx.base.sdk.rap2.dto.TestResult;
 import io.apidocx.base.sdk.rap2.dto.TestResult.Code;
+import io.apidocx.base.util.PreflightUtils;
+import io.apidocx.base.util.StartupTimings;
 import javax.swing.*;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -58,13 +61,20 @@ public class Rap2SettingsDialog extends DialogWrapper {
 
         // 登录校验
         JTextField captchaField = form.getCaptchaField();
-        TestResult testResult = settings.testSettings(captchaField.getText().trim(), form.getCaptchaSession());
+        String captcha = captchaField.getText().trim();
+        TestResult testResult = PreflightUtils.runWithProgress(null, "Checking Rap2 account",
+                () -> settings.testSettings(captcha, form.getCaptchaSession()));
+        if (testResult == null) {
+            return;
+        }
         Code code = testResult.getCode();
         if (code == Code.OK) {
             settings.setCookies(testResult.getCookies());
             settings.setCookiesUserId(testResult.getAuthUser().getId());
             // 存储配置
             Rap2Settings.storeInstance(settings);
+            PreflightUtils.markPassed(ActionType.Rap2.name(), settings.getUrl(), settings.getAccount(),
+                    settings.getPassword());
             super.doOKAction();
         }
         if (code == Code.NETWORK_ERROR) {
@@ -76,7 +86,8 @@ public class Rap2SettingsDialog extends DialogWrapper {
         if (code == Code.AUTH_CAPTCHA_ERROR) {
             Rap2Client client = new Rap2Client(settings.getUrl(), settings.getAccount(), settings.getPassword(),
                     settings.getCookies(), settings.getCookiesUserId());
-            CaptchaResponse captcha = client.getCaptcha();
+            // 首次转换验证码加载batik, 计时含验证码请求
+            CaptchaResponse captcha = StartupTimings.firstUse("batik", client::getCaptcha);
             form.setCaptchaIcon(captcha);
             form.getCaptchaField().setText("");
             setErrorText("Captcha incorrect", form.getCaptchaField());
@@ -231,8 +231,9 @@ public class Rap2DataConvector {
             property.setName("[element]");
         }
         List<Rap2Property> children = property.getChildren();
+        // 扁平结构通过parentId关联, 不再序列化子节点
+        property.setChildren(null);
         if (CollectionUtils.isNotEmpty(children)) {
-            property.setChildren(Collections.emptyList());
             for (Rap2Property child : children) {
                 flatRap2Property(container, child);
             }
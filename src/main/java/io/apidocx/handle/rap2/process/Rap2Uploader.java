@@ -2,6 +2,7 @@ package io.apidocx.handle.rap2.process;
 
 import static java.util.Objects.nonNull;
 
+import io.apidocx.base.sdk.http.AsyncCalls;
 import io.apidocx.base.sdk.rap2.Rap2Client;
 import io.apidocx.base.sdk.rap2.dto.InterfacePropertiesUpdateRequest;
 import io.apidocx.base.sdk.rap2.dto.InterfacePropertiesUpdateRequest.Summary;
@@ -18,80 +19,104 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.collections.CollectionUtils;
 
 /**
  * Rap2上传
  *
- * @see #upload(long, Api)
+ * @see #uploadAsync(long, Api)
  */
 public class Rap2Uploader {
 
     private final Rap2Client client;
-    private final Map<String, Rap2Module> moduleCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Rap2Module>> moduleCache = new ConcurrentHashMap<>();
 
     public Rap2Uploader(Rap2Client client) {
         this.client = client;
     }
 
     public Rap2Interface upload(long repositoryId, Api api) {
+        return AsyncCalls.join(uploadAsync(repositoryId, api));
+    }
+
+    /**
+     * 异步上传: 仓库及模块 -> 接口基本信息 -> 接口参数信息
+     */
+    public CompletableFuture<Rap2Interface> uploadAsync(long repositoryId, Api api) {
         Rap2Interface rapApi = Rap2DataConvector.convert(Long.valueOf(repositoryId).intValue(), api);
         rapApi.setRepositoryId(repositoryId);
 
         // 模块
-        Rap2Repository repository = client.getRepository(repositoryId);
-        Rap2Module module = getOrCreateModule(repository, api.getCategory());
-        rapApi.setModuleId(module.getId());
+        return client.async(c -> c.getRepository(repositoryId))
+                .thenCompose(repository -> getOrCreateModuleAsync(repository, api.getCategory()))
+                .thenCompose(module -> {
+                    rapApi.setModuleId(module.getId());
+                    return saveInterfaceAsync(module, rapApi);
+                })
+                .thenCompose(isModify -> {
+                    if (!isModify) {
+                        return CompletableFuture.completedFuture(rapApi);
+                    }
+                    return client.async(c -> c.updateInterfaceProperties(doConvertPropertiesRequest(rapApi)))
+                            .thenApply(v -> rapApi);
+                });
+    }
 
-        // 接口基本信息
+    /**
+     * 保存接口基本信息, 返回接口是否有修改
+     */
+    private CompletableFuture<Boolean> saveInterfaceAsync(Rap2Module module, Rap2Interface rapApi) {
         Rap2InterfaceBase originRapApi = findInterface(module, rapApi);
-        boolean isModify = true;
-        if (originRapApi != null) {
-            Rap2Interface theOriginApi = client.getInterface(originRapApi.getId());
-            isModify = Rap2InterfaceModifyJudge.isModify(theOriginApi, rapApi);
-            if (isModify) {
-                InterfaceUpdateRequest request = doConvertUpdateInterfaceRequest(rapApi, originRapApi);
-                client.updateInterface(request);
-            }
-        } else {
-            originRapApi = client.createInterface(rapApi);
-        }
-        rapApi.setId(originRapApi.getId());
-        rapApi.setRepositoryId(originRapApi.getRepositoryId());
-
-        // 接口参数信息
-        if (isModify) {
-            List<Rap2Property> properties =
-                    nonNull(rapApi.getProperties()) ? rapApi.getProperties() : Collections.emptyList();
-            properties.forEach(p -> {
-                p.setInterfaceId(rapApi.getId());
-                p.setModuleId(rapApi.getModuleId());
-                p.setRepositoryId(rapApi.getRepositoryId());
+        if (originRapApi == null) {
+            return client.async(c -> c.createInterface(rapApi)).thenApply(created -> {
+                rapApi.setId(created.getId());
+                rapApi.setRepositoryId(created.getRepositoryId());
+                return true;
             });
-            InterfacePropertiesUpdateRequest propertiesRequest = new InterfacePropertiesUpdateRequest();
-            propertiesRequest.setInterfaceId(rapApi.getId());
-            propertiesRequest.setProperties(properties);
-            propertiesRequest.setSummary(new Summary(rapApi.getBodyOption(), 0));
-            client.updateInterfaceProperties(propertiesRequest);
         }
-        return rapApi;
+        return client.async(c -> c.getInterface(originRapApi.getId())).thenCompose(theOriginApi -> {
+            boolean isModify = Rap2InterfaceModifyJudge.isModify(theOriginApi, rapApi);
+            InterfaceUpdateRequest request = doConvertUpdateInterfaceRequest(rapApi, originRapApi);
+            rapApi.setId(originRapApi.getId());
+            rapApi.setRepositoryId(originRapApi.getRepositoryId());
+            if (!isModify) {
+                return CompletableFuture.completedFuture(false);
+            }
+            return client.async(c -> c.updateInterface(request)).thenApply(v -> true);
+        });
+    }
+
+    private InterfacePropertiesUpdateRequest doConvertPropertiesRequest(Rap2Interface rapApi) {
+        List<Rap2Property> properties =
+                nonNull(rapApi.getProperties()) ? rapApi.getProperties() : Collections.emptyList();
+        properties.forEach(p -> {
+            p.setInterfaceId(rapApi.getId());
+            p.setModuleId(rapApi.getModuleId());
+            p.setRepositoryId(rapApi.getRepositoryId());
+        });
+        InterfacePropertiesUpdateRequest propertiesRequest = new InterfacePropertiesUpdateRequest();
+        propertiesRequest.setInterfaceId(rapApi.getId());
+        propertiesRequest.setProperties(properties);
+        propertiesRequest.setSummary(new Summary(rapApi.getBodyOption(), 0));
+        return propertiesRequest;
     }
 
     /**
-     * 获取或创建模块
+     * 获取或创建模块, 同一模块的并发请求共享一次创建
      */
-    private Rap2Module getOrCreateModule(Rap2Repository repository, String category) {
-        return moduleCache.computeIfAbsent(category, key -> {
+    private CompletableFuture<Rap2Module> getOrCreateModuleAsync(Rap2Repository repository, String category) {
+        return AsyncCalls.memoize(moduleCache, category, () -> {
             Rap2Module module = repository.getModules().stream().filter(m -> m.getName().equals(category)).findFirst()
                     .orElse(null);
             if (module != null) {
-                return module;
+                return CompletableFuture.completedFuture(module);
             }
             ModuleCreateRequest create = new ModuleCreateRequest();
             create.setRepositoryId(repository.getId());
             create.setName(category);
-            return client.createModule(create);
+            return client.async(c -> c.createModule(create));
         });
     }
 
@@ -6,22 +6,29 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.project.Project;
 import io.apidocx.action.AbstractAction;
+import io.apidocx.action.ActionType;
+import io.apidocx.action.SyncableAction;
 import io.apidocx.base.sdk.showdoc.ShowdocClient;
 import io.apidocx.base.sdk.showdoc.model.ShowdocUpdateResponse;
+import io.apidocx.base.sdk.showdoc.model.TestResult;
 import io.apidocx.base.sdk.showdoc.model.TestResult.Code;
+import io.apidocx.base.util.PreflightUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.handle.showdoc.config.ShowdocSettings;
 import io.apidocx.handle.showdoc.config.ShowdocSettingsDialog;
 import io.apidocx.handle.showdoc.process.ShowdocUploader;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Showdoc上传入口动作.
  */
-public class ShowdocUploadAction extends AbstractAction {
+public class ShowdocUploadAction extends AbstractAction implements SyncableAction {
 
     public static final String ACTION_TEXT = "Upload To ShowDoc";
 
@@ -35,31 +42,89 @@ public class ShowdocUploadAction extends AbstractAction {
 
         Project project = event.getData(CommonDataKeys.PROJECT);
         ShowdocSettings settings = ShowdocSettings.getInstance();
-        if (!settings.isValidate() || Code.OK != settings.testSettings(null, null).getCode()) {
+        if (!settings.isValidate() || !preflight(project, settings)) {
             ShowdocSettingsDialog dialog = ShowdocSettingsDialog.show(project, event.getPresentation().getText());
             return !dialog.isCanceled();
         }
         return true;
     }
 
+    /**
+     * 连接检查: 后台执行, 有效期内检查通过的账户不再重复检查
+     */
+    private boolean preflight(Project project, ShowdocSettings settings) {
+        String platform = ActionType.ShowDoc.name();
+        if (PreflightUtils.isPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword())) {
+            return true;
+        }
+        TestResult testResult = PreflightUtils.runWithProgress(project, "Checking ShowDoc account",
+                () -> settings.testSettings(null, null));
+        boolean passed = testResult != null && Code.OK == testResult.getCode();
+        if (passed) {
+            PreflightUtils.markPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword());
+        }
+        return passed;
+    }
+
     @Override
     public void handle(AnActionEvent event, ApidocxConfig config, List<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis);
+    }
+
+    @Override
+    protected void handleStream(AnActionEvent event, ApidocxConfig config, Iterator<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis, -1);
+    }
+
+    @Override
+    public boolean canSync(Project project, ApidocxConfig config) {
+        if (StringUtils.isEmpty(config.getShowdocProjectId())) {
+            return false;
+        }
+        ShowdocSettings settings = ShowdocSettings.getInstance();
+        return settings.isValidate() && preflight(project, settings);
+    }
+
+    @Override
+    public void upload(Project project, ApidocxConfig config, List<Api> apis) {
+        upload(project, config, apis.iterator(), apis.size());
+    }
+
+    private void upload(Project project, ApidocxConfig config, Iterator<Api> apis, int total) {
         String projectId = config.getShowdocProjectId();
-        Project project = event.getData(CommonDataKeys.PROJECT);
 
         ShowdocSettings settings = ShowdocSettings.getInstance();
         ShowdocClient client = new ShowdocClient(settings.getUrl(), settings.getAccount(), settings.getPassword(), settings.getCookies());
         ShowdocUploader uploader = new ShowdocUploader(client);
 
-        super.handleUploadAsync(project, apis,
-                api -> {
-                    ShowdocUpdateResponse sapi = uploader.upload(projectId, api);
-
+        super.handleUploadAsync(project, apis, total,
+                api -> uploader.uploadAsync(projectId, api).thenApply(sapi -> {
                     ApiUploadResult result = new ApiUploadResult();
                     result.setApiUrl(client.calculateWebUrl(sapi.getItemId(), sapi.getPageId()));
                     result.setCategoryUrl(client.calculateWebUrl(sapi.getItemId(), null));
                     return result;
-                }, null);
+                }), () -> {
+                    // 保存上传过程中重新登录的cookies, 检查通过的有效期内不会再经过testSettings
+                    if (StringUtils.isNotEmpty(client.getCookies())) {
+                        settings.setCookies(client.getCookies());
+                    }
+                    return null;
+                });
+    }
+
+    @Override
+    protected boolean isStreamHandle() {
+        return true;
+    }
+
+    @Override
+    protected boolean isHandlePerModule() {
+        return true;
+    }
+
+    @Override
+    public Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.none();
     }
 
     @Override
@@ -8,7 +8,7 @@ import com.intellij.util.xmlb.XmlSerializerUtil;
 import com.intellij.util.xmlb.annotations.Transient;
 import io.apidocx.base.sdk.showdoc.ShowdocClient;
 import io.apidocx.base.sdk.showdoc.model.TestResult;
-import io.apidocx.base.util.PasswordSafeUtils;
+import io.apidocx.config.CredentialCache;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -44,17 +44,25 @@ public class ShowdocSettings implements PersistentStateComponent<ShowdocSettings
     /**
      * 登录后的cookies
      */
-    private String cookies;
+    private volatile String cookies;
 
     public static ShowdocSettings getInstance() {
         ShowdocSettings settings = ServiceManager.getService(ShowdocSettings.class);
-        settings.password = PasswordSafeUtils.getPassword(PASSWORD_KEY, settings.account);
+        settings.password = CredentialCache.getInstance().getPassword(PASSWORD_KEY, settings.account);
         return settings;
     }
 
     public static void storeInstance(@NotNull ShowdocSettings state) {
         getInstance().loadState(state);
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
+        CredentialCache.getInstance().storePassword(PASSWORD_KEY, state.account, state.password);
+    }
+
+    /**
+     * 后台预加载密码
+     */
+    public static void preloadPassword() {
+        ShowdocSettings settings = ServiceManager.getService(ShowdocSettings.class);
+        CredentialCache.getInstance().preload(PASSWORD_KEY, settings.account);
     }
 
     @Nullable
@@ -65,7 +73,6 @@ public class ShowdocSettings implements PersistentStateComponent<ShowdocSettings
 
     @Override
     public void loadState(@NotNull ShowdocSettings state) {
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
         XmlSerializerUtil.copyBean(state, this);
     }
 
@@ -3,10 +3,12 @@ package io.apidocx.handle.showdoc.config;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.ValidationInfo;
+import io.apidocx.action.ActionType;
 import io.apidocx.base.sdk.showdoc.ShowdocClient;
 import io.apidocx.base.sdk.showdoc.model.CaptchaResponse;
 import io.apidocx.base.sdk.showdoc.model.TestResult;
 import io.apidocx.base.sdk.showdoc.model.TestResult.Code;
+import io.apidocx.base.util.PreflightUtils;
 import javax.swing.*;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -58,12 +60,19 @@ public class ShowdocSettingsDialog extends DialogWrapper {
 
         // 登录校验
         JTextField captchaField = form.getCaptchaField();
-        TestResult testResult = settings.testSettings(captchaField.getText().trim(), form.getCaptchaSession());
+        String captcha = captchaField.getText().trim();
+        TestResult testResult = PreflightUtils.runWithProgress(null, "Checking ShowDoc account",
+                () -> settings.testSettings(captcha, form.getCaptchaSession()));
+        if (testResult == null) {
+            return;
+        }
         TestResult.Code code = testResult.getCode();
         if (code == TestResult.Code.OK) {
             settings.setCookies(testResult.getCookies());
             // 存储配置
             ShowdocSettings.storeInstance(settings);
+            PreflightUtils.markPassed(ActionType.ShowDoc.name(), settings.getUrl(), settings.getAccount(),
+                    settings.getPassword());
             super.doOKAction();
         }
         if (code == Code.NETWORK_ERROR) {
@@ -1,5 +1,6 @@
 package io.apidocx.handle.showdoc.process;
 
+import io.apidocx.base.sdk.http.AsyncCalls;
 import io.apidocx.base.sdk.showdoc.ShowdocClient;
 import io.apidocx.base.sdk.showdoc.model.ShowdocProjectToken;
 import io.apidocx.base.sdk.showdoc.model.ShowdocUpdateRequest;
@@ -7,6 +8,7 @@ import io.apidocx.base.sdk.showdoc.model.ShowdocUpdateResponse;
 import io.apidocx.handle.markdown.MarkdownGenerator;
 import io.apidocx.model.Api;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 
@@ -16,37 +18,44 @@ import org.apache.commons.lang3.StringUtils;
 public class ShowdocUploader {
 
     private final ShowdocClient client;
-    private final Map<String, ShowdocProjectToken> tokenCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ShowdocProjectToken>> tokenCache = new ConcurrentHashMap<>();
 
     public ShowdocUploader(ShowdocClient client) {
         this.client = client;
     }
 
     public ShowdocUpdateResponse upload(String projectId, Api api) {
+        return AsyncCalls.join(uploadAsync(projectId, api));
+    }
+
+    /**
+     * 异步上传: 项目令牌 -> 更新页面
+     */
+    public CompletableFuture<ShowdocUpdateResponse> uploadAsync(String projectId, Api api) {
         if (StringUtils.isEmpty(api.getSummary())) {
             api.setSummary(api.getPath());
         }
 
         String markdown = new MarkdownGenerator().generate(api);
-        ShowdocProjectToken token = getToken(projectId);
-
-        ShowdocUpdateRequest page = new ShowdocUpdateRequest();
-        page.setApiKey(token.getApiKey());
-        page.setApiToken(token.getApiToken());
-        page.setCatName(api.getCategory());
-        page.setPageTitle(api.getSummary());
-        page.setPageContent(markdown);
-
-        ShowdocUpdateResponse response = client.updatePageByOpenApi(page);
-        if (response == null) {
-            response = new ShowdocUpdateResponse();
-            response.setItemId(projectId);
-        }
-        return response;
+        return getTokenAsync(projectId).thenCompose(token -> {
+            ShowdocUpdateRequest page = new ShowdocUpdateRequest();
+            page.setApiKey(token.getApiKey());
+            page.setApiToken(token.getApiToken());
+            page.setCatName(api.getCategory());
+            page.setPageTitle(api.getSummary());
+            page.setPageContent(markdown);
+            return client.async(c -> c.updatePageByOpenApi(page));
+        }).thenApply(response -> {
+            if (response == null) {
+                response = new ShowdocUpdateResponse();
+                response.setItemId(projectId);
+            }
+            return response;
+        });
     }
 
-    private ShowdocProjectToken getToken(String projectId) {
-        return tokenCache.computeIfAbsent(projectId, key -> client.getProjectToken(projectId));
+    private CompletableFuture<ShowdocProjectToken> getTokenAsync(String projectId) {
+        return AsyncCalls.memoize(tokenCache, projectId, () -> client.async(c -> c.getProjectToken(projectId)));
     }
 
 }
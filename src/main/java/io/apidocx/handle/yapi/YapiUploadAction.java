@@ -6,25 +6,31 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.project.Project;
 import io.apidocx.action.AbstractAction;
+import io.apidocx.action.ActionType;
+import io.apidocx.action.SyncableAction;
 import io.apidocx.base.sdk.yapi.YapiClient;
 import io.apidocx.base.sdk.yapi.model.ApiInterface;
 import io.apidocx.base.sdk.yapi.model.TestResult;
 import io.apidocx.base.sdk.yapi.model.TestResult.Code;
 import io.apidocx.base.util.NotificationUtils;
+import io.apidocx.base.util.PreflightUtils;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.config.DefaultConstants;
 import io.apidocx.handle.yapi.config.YapiSettings;
 import io.apidocx.handle.yapi.config.YapiSettingsDialog;
 import io.apidocx.handle.yapi.process.YapiUploader;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * 处理Yapi上传入口动作.
  */
-public class YapiUploadAction extends AbstractAction {
+public class YapiUploadAction extends AbstractAction implements SyncableAction {
 
     public static final String ACTION_TEXT = "Upload To YApi";
 
@@ -39,41 +45,97 @@ public class YapiUploadAction extends AbstractAction {
             notifyError("Config file error", "yapiUrl must not be empty, when you config yapiProjectToken.");
             return false;
         }
+        Project project = event.getData(CommonDataKeys.PROJECT);
         if (StringUtils.isNotEmpty(config.getYapiProjectToken())) {
-            YapiClient client = new YapiClient(config.getYapiUrl(), config.getYapiProjectToken());
-            TestResult testResult = client.test();
-            if (testResult.getCode() == Code.NETWORK_ERROR) {
-                NotificationUtils.notifyError(DefaultConstants.NAME, "Network error: " + config.getYapiUrl());
-                return false;
-            }
-            if (testResult.getCode() == Code.AUTH_ERROR) {
-                NotificationUtils.notifyError(DefaultConstants.NAME, "The project token is invalid.");
-                return false;
-            }
-        } else {
-            Project project = event.getData(CommonDataKeys.PROJECT);
-            YapiSettings settings = YapiSettings.getInstance();
-            if (!settings.isValidate() || Code.OK != settings.testSettings().getCode()) {
-                YapiSettingsDialog dialog = YapiSettingsDialog.show(project, event.getPresentation().getText());
-                return !dialog.isCanceled();
-            }
+            return preflightToken(project, config);
+        }
+        YapiSettings settings = YapiSettings.getInstance();
+        if (!settings.isValidate() || !preflight(project, settings)) {
+            YapiSettingsDialog dialog = YapiSettingsDialog.show(project, event.getPresentation().getText());
+            return !dialog.isCanceled();
+        }
+        return true;
+    }
+
+    /**
+     * 项目令牌检查: 后台执行, 有效期内检查通过的令牌不再重复检查
+     */
+    private boolean preflightToken(Project project, ApidocxConfig config) {
+        String platform = ActionType.YApi.name();
+        if (PreflightUtils.isPassed(platform, config.getYapiUrl(), null, config.getYapiProjectToken())) {
+            return true;
+        }
+        YapiClient client = new YapiClient(config.getYapiUrl(), config.getYapiProjectToken());
+        TestResult testResult = PreflightUtils.runWithProgress(project, "Checking YApi project token",
+                client::test);
+        if (testResult == null) {
+            return false;
+        }
+        if (testResult.getCode() == Code.NETWORK_ERROR) {
+            NotificationUtils.notifyError(DefaultConstants.NAME, "Network error: " + config.getYapiUrl());
+            return false;
+        }
+        if (testResult.getCode() == Code.AUTH_ERROR) {
+            NotificationUtils.notifyError(DefaultConstants.NAME, "The project token is invalid.");
+            return false;
         }
+        PreflightUtils.markPassed(platform, config.getYapiUrl(), null, config.getYapiProjectToken());
         return true;
     }
 
+    /**
+     * 连接检查: 后台执行, 有效期内检查通过的账户不再重复检查
+     */
+    private boolean preflight(Project project, YapiSettings settings) {
+        String platform = ActionType.YApi.name();
+        if (PreflightUtils.isPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword())) {
+            return true;
+        }
+        TestResult testResult = PreflightUtils.runWithProgress(project, "Checking YApi account",
+                settings::testSettings);
+        boolean passed = testResult != null && Code.OK == testResult.getCode();
+        if (passed) {
+            PreflightUtils.markPassed(platform, settings.getUrl(), settings.getAccount(), settings.getPassword());
+        }
+        return passed;
+    }
+
     @Override
     public void handle(AnActionEvent event, ApidocxConfig config, List<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis);
+    }
+
+    @Override
+    protected void handleStream(AnActionEvent event, ApidocxConfig config, Iterator<Api> apis) {
+        upload(event.getData(CommonDataKeys.PROJECT), config, apis, -1);
+    }
+
+    @Override
+    public boolean canSync(Project project, ApidocxConfig config) {
+        if (StringUtils.isEmpty(config.getYapiProjectId())) {
+            return false;
+        }
+        if (StringUtils.isNotEmpty(config.getYapiProjectToken())) {
+            return StringUtils.isNotEmpty(config.getYapiUrl()) && preflightToken(project, config);
+        }
+        YapiSettings settings = YapiSettings.getInstance();
+        return settings.isValidate() && preflight(project, settings);
+    }
+
+    @Override
+    public void upload(Project project, ApidocxConfig config, List<Api> apis) {
+        upload(project, config, apis.iterator(), apis.size());
+    }
+
+    private void upload(Project project, ApidocxConfig config, Iterator<Api> apis, int total) {
         Integer projectId = Integer.valueOf(config.getYapiProjectId());
-        Project project = event.getData(CommonDataKeys.PROJECT);
 
         YapiSettings settings = YapiSettings.getInstance();
         YapiClient client = createClient(config, settings);
         YapiUploader uploader = new YapiUploader(client);
 
-        super.handleUploadAsync(project, apis,
-                api -> {
-                    ApiInterface yapi = uploader.upload(projectId, api);
-
+        super.handleUploadAsync(project, apis, total,
+                api -> uploader.uploadAsync(projectId, api).thenApply(yapi -> {
                     ApiUploadResult result = new ApiUploadResult();
                     result.setCategoryUrl(client.calculateCatUrl(projectId, yapi.getCatid()));
                     if (yapi.getId() != null) {
@@ -82,7 +144,14 @@ public class YapiUploadAction extends AbstractAction {
                         result.setApiUrl(result.getCategoryUrl());
                     }
                     return result;
-                }, null);
+                }), () -> {
+                    // 保存上传过程中重新登录的cookies, 检查通过的有效期内不会再经过testSettings
+                    if (StringUtils.isEmpty(config.getYapiProjectToken())
+                            && StringUtils.isNotEmpty(client.getCookies())) {
+                        settings.setCookies(client.getCookies());
+                    }
+                    return null;
+                });
     }
 
     private YapiClient createClient(ApidocxConfig config, YapiSettings settings) {
@@ -94,6 +163,21 @@ public class YapiUploadAction extends AbstractAction {
     }
 
 
+    @Override
+    protected boolean isStreamHandle() {
+        return true;
+    }
+
+    @Override
+    protected boolean isHandlePerModule() {
+        return true;
+    }
+
+    @Override
+    public Set<ApiAttribute> getRequiredAttributes() {
+        return ApiAttribute.all();
+    }
+
     @Override
     public void update(@NotNull AnActionEvent e) {
         e.getPresentation().setText(ACTION_TEXT);
@@ -10,7 +10,7 @@ import io.apidocx.base.sdk.yapi.YapiClient;
 import io.apidocx.base.sdk.yapi.model.LoginWay;
 import io.apidocx.base.sdk.yapi.model.TestResult;
 import io.apidocx.base.sdk.yapi.model.TestResult.Code;
-import io.apidocx.base.util.PasswordSafeUtils;
+import io.apidocx.config.CredentialCache;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -46,7 +46,7 @@ public class YapiSettings implements PersistentStateComponent<YapiSettings> {
     /**
      * 登录后的cookies
      */
-    private String cookies;
+    private volatile String cookies;
 
     /**
      * 登录方式
@@ -55,13 +55,21 @@ public class YapiSettings implements PersistentStateComponent<YapiSettings> {
 
     public static YapiSettings getInstance() {
         YapiSettings settings = ServiceManager.getService(YapiSettings.class);
-        settings.password = PasswordSafeUtils.getPassword(PASSWORD_KEY, settings.account);
+        settings.password = CredentialCache.getInstance().getPassword(PASSWORD_KEY, settings.account);
         return settings;
     }
 
     public static void storeInstance(@NotNull YapiSettings state) {
         getInstance().loadState(state);
-        PasswordSafeUtils.storePassword(PASSWORD_KEY, state.account, state.password);
+        CredentialCache.getInstance().storePassword(PASSWORD_KEY, state.account, state.password);
+    }
+
+    /**
+     * 后台预加载密码
+     */
+    public static void preloadPassword() {
+        YapiSettings settings = ServiceManager.getService(YapiSettings.class);
+        CredentialCache.getInstance().preload(PASSWORD_KEY, settings.account);
     }
 
     @Nullable
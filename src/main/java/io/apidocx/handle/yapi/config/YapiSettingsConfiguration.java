@@ -1,6 +1,8 @@
 package io.apidocx.handle.yapi.config;
 
 import com.intellij.openapi.options.Configurable;
+import io.apidocx.action.ActionType;
+import io.apidocx.base.util.PreflightUtils;
 import javax.swing.*;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.Nls.Capitalization;
@@ -39,6 +41,7 @@ public class YapiSettingsConfiguration implements Configurable {
     public void apply() {
         YapiSettings data = form.get();
         YapiSettings.storeInstance(data);
+        PreflightUtils.invalidate(ActionType.YApi.name());
     }
 
     @Override
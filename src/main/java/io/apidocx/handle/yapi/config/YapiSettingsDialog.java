@@ -3,8 +3,10 @@ package io.apidocx.handle.yapi.config;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.ValidationInfo;
+import io.apidocx.action.ActionType;
 import io.apidocx.base.sdk.yapi.model.TestResult;
 import io.apidocx.base.sdk.yapi.model.TestResult.Code;
+import io.apidocx.base.util.PreflightUtils;
 import javax.swing.*;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nls;
@@ -55,12 +57,17 @@ public class YapiSettingsDialog extends DialogWrapper {
         settings.setCookies(originSettings.getCookies());
 
         // 测试账户
-        TestResult testResult = settings.testSettings();
+        TestResult testResult = PreflightUtils.runWithProgress(null, "Checking YApi account", settings::testSettings);
+        if (testResult == null) {
+            return;
+        }
         Code code = testResult.getCode();
         if (code == Code.OK) {
             settings.setCookies(testResult.getCookies());
             // 存储配置
             YapiSettings.storeInstance(settings);
+            PreflightUtils.markPassed(ActionType.YApi.name(), settings.getUrl(), settings.getAccount(),
+                    settings.getPassword());
             super.doOKAction();
         }
         if (code == Code.NETWORK_ERROR) {
@@ -183,7 +183,10 @@ public class YapiDataConvector {
             }
             apiProperty.setProperties(yapiProperties);
         }
-
+        // 省略空的必填列表, 减小请求体
+        if (required.isEmpty()) {
+            apiProperty.setRequired(null);
+        }
         return apiProperty;
     }
 
@@ -1,6 +1,7 @@
 package io.apidocx.handle.yapi.process;
 
 import com.google.common.base.Strings;
+import io.apidocx.base.sdk.http.AsyncCalls;
 import io.apidocx.base.sdk.yapi.YapiClient;
 import io.apidocx.base.sdk.yapi.YapiException;
 import io.apidocx.base.sdk.yapi.model.ApiCategory;
@@ -12,6 +13,7 @@ import io.apidocx.model.Api;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -20,86 +22,116 @@ import java.util.concurrent.ConcurrentHashMap;
 public class YapiUploader {
 
     private final YapiClient client;
-    private final Map<String, Integer> menuCatIdCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Integer>> menuCatIdCache = new ConcurrentHashMap<>();
 
     public YapiUploader(YapiClient client) {
         this.client = client;
     }
 
     public ApiInterface upload(Integer projectId, Api api) {
-        ApiInterface data = YapiDataConvector.convert(projectId, api);
-        Integer categoryId = getCatIdOrCreate(data.getProjectId(), data.getMenu());
-        data.setCatid(categoryId);
-        addOrUpdate(data);
-        return data;
+        return AsyncCalls.join(uploadAsync(projectId, api));
     }
 
+    /**
+     * 异步上传: 分类 -> 查找原接口 -> 保存
+     */
+    public CompletableFuture<ApiInterface> uploadAsync(Integer projectId, Api api) {
+        ApiInterface data = YapiDataConvector.convert(projectId, api);
+        return getCatIdOrCreateAsync(data.getProjectId(), data.getMenu())
+                .thenCompose(categoryId -> {
+                    data.setCatid(categoryId);
+                    return addOrUpdateAsync(data);
+                })
+                .thenApply(v -> data);
+    }
 
     /**
      * 获取或者创建分类
      */
     public Integer getCatIdOrCreate(Integer projectId, String menu) {
-        return menuCatIdCache.computeIfAbsent(menu, key -> {
-            Integer catId = menuCatIdCache.get(menu);
-            if (catId != null) {
-                return catId;
-            }
-            try {
-                List<ApiCategory> list = client.getCategories(projectId);
-                String[] menus = menu.split("/");
-                // 循环多级菜单，判断是否存在，如果不存在就创建
-                //  解决多级菜单创建问题
-                Integer parent_id = -1;
-                Integer now_id = null;
-                for (int i = 0; i < menus.length; i++) {
-                    if (Strings.isNullOrEmpty(menus[i])) {
-                        continue;
-                    }
-                    boolean needAdd = true;
-                    now_id = null;
-                    for (ApiCategory apiCategory : list) {
-                        if (apiCategory.getName().equals(menus[i])) {
-                            needAdd = false;
-                            now_id = apiCategory.getId();
-                            break;
-                        }
-                    }
-                    if (needAdd) {
-                        now_id = this.addCategory(projectId, parent_id, menus[i]);
-                    }
-                    if (i == (menus.length - 1)) {
-                        catId = now_id;
-                    } else {
-                        parent_id = now_id;
+        return AsyncCalls.join(getCatIdOrCreateAsync(projectId, menu));
+    }
+
+    /**
+     * 获取或者创建分类, 同一分类的并发请求共享一次查询
+     */
+    private CompletableFuture<Integer> getCatIdOrCreateAsync(Integer projectId, String menu) {
+        return AsyncCalls.memoize(menuCatIdCache, menu,
+                () -> client.async(c -> doGetCatIdOrCreate(projectId, menu)));
+    }
+
+    private Integer doGetCatIdOrCreate(Integer projectId, String menu) {
+        Integer catId = null;
+        try {
+            List<ApiCategory> list = client.getCategories(projectId);
+            String[] menus = menu.split("/");
+            // 循环多级菜单，判断是否存在，如果不存在就创建
+            //  解决多级菜单创建问题
+            Integer parent_id = -1;
+            Integer now_id = null;
+            for (int i = 0; i < menus.length; i++) {
+                if (Strings.isNullOrEmpty(menus[i])) {
+                    continue;
+                }
+                boolean needAdd = true;
+                now_id = null;
+                for (ApiCategory apiCategory : list) {
+                    if (apiCategory.getName().equals(menus[i])) {
+                        needAdd = false;
+                        now_id = apiCategory.getId();
+                        break;
                     }
                 }
-            } catch (YapiException e) {
-                //出现这种情况可能是yapi 版本不支持
-            }
-            if (catId == null) {
-                catId = addCategory(projectId, -1, menu);
+                if (needAdd) {
+                    now_id = this.addCategory(projectId, parent_id, menus[i]);
+                }
+                if (i == (menus.length - 1)) {
+                    catId = now_id;
+                } else {
+                    parent_id = now_id;
+                }
             }
-            return catId;
-        });
+        } catch (YapiException e) {
+            //出现这种情况可能是yapi 版本不支持
+        }
+        if (catId == null) {
+            catId = addCategory(projectId, -1, menu);
+        }
+        return catId;
     }
 
     /**
      * 创建或更新接口
      */
-    private void addOrUpdate(ApiInterface api) {
-        ApiInterface originApi = findInterface(api);
-        if (originApi != null) {
-            api.setId(originApi.getId());
-            if (!YapiInterfaceModifyJudge.isModify(originApi, api)) {
-                return;
+    private CompletableFuture<Void> addOrUpdateAsync(ApiInterface api) {
+        return findInterfaceAsync(api).thenCompose(originApi -> {
+            if (originApi != null) {
+                api.setId(originApi.getId());
+                if (!YapiInterfaceModifyJudge.isModify(originApi, api)) {
+                    return CompletableFuture.completedFuture(null);
+                }
             }
-        }
-        client.saveInterface(api);
+            return client.async(c -> {
+                c.saveInterface(api);
+                return null;
+            });
+        });
     }
 
-    private ApiInterface findInterface(ApiInterface apiInterface) {
+    private CompletableFuture<ApiInterface> findInterfaceAsync(ApiInterface apiInterface) {
+        return client.async(c -> c.listInterfaceByCat(apiInterface.getCatid(), 1, 1000))
+                .thenCompose(interfacesList -> {
+                    ApiInterfaceVo originInterface = findOriginInterface(interfacesList, apiInterface);
+                    if (originInterface != null) {
+                        return client.async(c -> c.getInterface(originInterface.getId()));
+                    }
+                    return CompletableFuture.completedFuture(null);
+                });
+    }
+
+    private static ApiInterfaceVo findOriginInterface(ListInterfaceResponse interfacesList,
+                                                      ApiInterface apiInterface) {
         // 比较: title + path + method
-        ListInterfaceResponse interfacesList = client.listInterfaceByCat(apiInterface.getCatid(), 1, 1000);
         ApiInterfaceVo originInterface = interfacesList.getList().stream()
                 .filter(o -> Objects.equals(o.getTitle(), apiInterface.getTitle())
                         && Objects.equals(o.getPath(), apiInterface.getPath())
@@ -118,10 +150,7 @@ public class YapiUploader {
                     .filter(o -> Objects.equals(o.getTitle(), apiInterface.getTitle()))
                     .findFirst().orElse(null);
         }
-        if (originInterface != null) {
-            return client.getInterface(originInterface.getId());
-        }
-        return null;
+        return originInterface;
     }
 
 
@@ -44,7 +44,7 @@ public class Api {
     /**
      * 是否标记过期
      */
-    private Boolean deprecated;
+    private boolean deprecated;
 
     /**
      * 参数
@@ -71,6 +71,21 @@ public class Api {
      */
     private Property responses;
 
+    public void setCategory(String category) {
+        this.category = Interns.intern(category);
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = Interns.compact(tags);
+    }
+
+    public void setParameters(List<Property> parameters) {
+        this.parameters = Interns.compact(parameters);
+    }
+
+    public void setRequestBodyForm(List<Property> requestBodyForm) {
+        this.requestBodyForm = Interns.compact(requestBodyForm);
+    }
 
     /**
      * 获取指定类型的请求参数（query, path, header,etc）
@@ -0,0 +1,48 @@
+package io.apidocx.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 接口可选属性: 计算代价较高, 由处理器声明是否需要, 解析器按需计算.
+ */
+public enum ApiAttribute {
+
+    /**
+     * 接口描述: {@link Api#getDescription()}
+     */
+    API_DESCRIPTION,
+
+    /**
+     * 接口标签: {@link Api#getTags()}
+     */
+    API_TAGS,
+
+    /**
+     * 参数mock: {@link Property#getMock()}
+     */
+    PROPERTY_MOCK,
+    ;
+
+    /**
+     * 所有属性
+     */
+    public static Set<ApiAttribute> all() {
+        return Collections.unmodifiableSet(EnumSet.allOf(ApiAttribute.class));
+    }
+
+    /**
+     * 不需要任何可选属性
+     */
+    public static Set<ApiAttribute> none() {
+        return Collections.unmodifiableSet(EnumSet.noneOf(ApiAttribute.class));
+    }
+
+    /**
+     * 指定属性
+     */
+    public static Set<ApiAttribute> of(ApiAttribute first, ApiAttribute... rest) {
+        return Collections.unmodifiableSet(EnumSet.of(first, rest));
+    }
+}
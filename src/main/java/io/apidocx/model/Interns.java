@@ -0,0 +1,39 @@
+package io.apidocx.model;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.Collections;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 模型字符串和列表共享: 名称、类型、描述等大量重复, 共享同一实例以减少内存占用.
+ */
+@UtilityClass
+class Interns {
+
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+    /**
+     * 字符串驻留, 弱引用不会造成泄露
+     */
+    static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.isEmpty()) {
+            return "";
+        }
+        return STRINGS.intern(value);
+    }
+
+    /**
+     * 空列表使用共享实例
+     */
+    static <T> List<T> compact(List<T> list) {
+        if (list != null && list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return list;
+    }
+}
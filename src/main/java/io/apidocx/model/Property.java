@@ -35,10 +35,10 @@ public class Property {
     /** 参数位置 */
     private ParameterIn in;
 
-    /** 是否必须 */
+    /** 是否必须, 字段配置(BeanCustom)中为null表示不覆盖 */
     private Boolean required;
 
-    /** 是否标记过期 */
+    /** 是否标记过期, 字段配置中为null表示不覆盖 */
     private Boolean deprecated;
 
     /** 请求示例 */
@@ -92,6 +92,37 @@ public class Property {
      */
     private BigDecimal maximum = null;
 
+    public void setName(String name) {
+        this.name = Interns.intern(name);
+    }
+
+    public void setType(String type) {
+        this.type = Interns.intern(type);
+    }
+
+    public void setDateFormat(String dateFormat) {
+        this.dateFormat = Interns.intern(dateFormat);
+    }
+
+    public void setDescription(String description) {
+        this.description = Interns.intern(description);
+    }
+
+    public void setDefaultValue(String defaultValue) {
+        this.defaultValue = Interns.intern(defaultValue);
+    }
+
+    public void setMock(String mock) {
+        this.mock = Interns.intern(mock);
+    }
+
+    /**
+     * 值列表为只读, 可在多个参数间共享
+     */
+    public void setValues(List<Value> values) {
+        this.values = Interns.compact(values);
+    }
+
     public boolean isArrayType() {
         return DataTypes.ARRAY.equals(type);
     }
@@ -138,13 +169,13 @@ public class Property {
      */
     public void mergeCustom(Property custom) {
         if (StringUtils.isNotEmpty(custom.getName())) {
-            this.name = custom.getName();
+            setName(custom.getName());
         }
         if (StringUtils.isNotEmpty(custom.getType())) {
-            this.type = custom.getType();
+            setType(custom.getType());
         }
         if (StringUtils.isNotEmpty(custom.getDescription())) {
-            this.description = custom.getDescription();
+            setDescription(custom.getDescription());
         }
         if (custom.getRequired() != null) {
             this.required = custom.getRequired();
@@ -153,13 +184,13 @@ public class Property {
             this.deprecated = custom.getDeprecated();
         }
         if (StringUtils.isNotEmpty(custom.getDefaultValue())) {
-            this.defaultValue = custom.getDefaultValue();
+            setDefaultValue(custom.getDefaultValue());
         }
         if (StringUtils.isNotEmpty(custom.getExample())) {
             this.example = custom.getExample();
         }
         if (StringUtils.isNotEmpty(custom.getMock())) {
-            this.mock = custom.getMock();
+            setMock(custom.getMock());
         }
         if (custom.getMaxLength() != null) {
             this.maxLength = custom.getMaxLength();
@@ -195,7 +226,7 @@ public class Property {
     }
 
     public void addProperty(String key, Property value) {
-        if (this.properties == null) {
+        if (this.properties == null || this.properties.isEmpty()) {
             this.properties = new LinkedHashMap<>();
         }
         this.properties.put(key, value);
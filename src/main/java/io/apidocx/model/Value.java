@@ -1,13 +1,11 @@
 package io.apidocx.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
 
 @Getter
 @ToString
-@AllArgsConstructor
 public class Value {
 
     /**
@@ -20,6 +18,11 @@ public class Value {
      */
     private String description;
 
+    public Value(String value, String description) {
+        this.value = Interns.intern(value);
+        this.description = Interns.intern(description);
+    }
+
     /**
      * 获取描述文本, 例如： READ: 红色
      */
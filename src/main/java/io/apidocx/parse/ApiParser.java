@@ -12,6 +12,7 @@ import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
 import io.apidocx.parse.constant.SpringConstants;
 import io.apidocx.parse.model.ClassApiData;
 import io.apidocx.parse.model.ClassLevelApiInfo;
@@ -22,13 +23,18 @@ import io.apidocx.parse.parser.ParseHelper;
 import io.apidocx.parse.parser.PathParser;
 import io.apidocx.parse.parser.RequestParser;
 import io.apidocx.parse.parser.ResponseParser;
+import io.apidocx.parse.profile.ParseProfiler;
+import io.apidocx.parse.profile.ProfileKinds;
 import io.apidocx.parse.util.InternalUtils;
 import io.apidocx.parse.util.PathUtils;
 import io.apidocx.parse.util.PsiAnnotationUtils;
 import io.apidocx.parse.util.PsiUtils;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -42,16 +48,26 @@ public class ApiParser {
     private final Project project;
     private final Module module;
     private final ApidocxConfig settings;
+    private final Set<ApiAttribute> attributes;
 
     public ApiParser(Project project, Module module, ApidocxConfig settings) {
+        this(project, module, settings, ApiAttribute.all());
+    }
+
+    /**
+     * @param attributes 需要计算的可选属性, 未声明的属性不会解析
+     */
+    public ApiParser(Project project, Module module, ApidocxConfig settings, Set<ApiAttribute> attributes) {
         checkNotNull(project);
         checkNotNull(module);
         checkNotNull(settings);
+        checkNotNull(attributes);
         this.project = project;
         this.module = module;
         this.settings = settings;
-        this.requestParser = new RequestParser(project, module, settings);
-        this.responseParser = new ResponseParser(project, module, settings);
+        this.attributes = attributes;
+        this.requestParser = new RequestParser(project, module, settings, attributes);
+        this.responseParser = new ResponseParser(project, module, settings, attributes);
         this.parseHelper = new ParseHelper(project, module);
     }
 
@@ -59,6 +75,26 @@ public class ApiParser {
      * 解析接口
      */
     public ClassApiData parse(PsiClass psiClass) {
+        return parse(psiClass, method -> true);
+    }
+
+    /**
+     * 解析控制类中满足条件的接口方法
+     */
+    public ClassApiData parse(PsiClass psiClass, Predicate<PsiMethod> methodFilter) {
+        try (ParseProfiler.Scope ignored = ParseProfiler.enter(ProfileKinds.CONTROLLER, psiClass.getQualifiedName())) {
+            return doParse(psiClass, methodFilter);
+        }
+    }
+
+    /**
+     * 是否是需要解析的控制类
+     */
+    public boolean isController(PsiClass psiClass) {
+        return isParseTargetPsiClass(psiClass) && !parseHelper.isClassIgnored(psiClass);
+    }
+
+    private ClassApiData doParse(PsiClass psiClass, Predicate<PsiMethod> methodFilter) {
         ClassApiData data = new ClassApiData();
         if (!isParseTargetPsiClass(psiClass) || parseHelper.isClassIgnored(psiClass)) {
             data.setValid(false);
@@ -68,6 +104,7 @@ public class ApiParser {
 
         List<PsiMethod> methods = filterMethodsToParse(psiClass);
         List<MethodApiData> methodApiDataList = methods.stream()
+                .filter(methodFilter)
                 .map(method -> doParseMethod(method, classLevelApiInfo))
                 .collect(Collectors.toList());
 
@@ -84,6 +121,28 @@ public class ApiParser {
         return doParseMethod(method, doParseClassLevelApiInfo(psiClass));
     }
 
+    /**
+     * 流式解析控制类中的接口, 严格模式下过滤未声明分类的类和未声明名称的接口
+     */
+    public Stream<Api> stream(Stream<PsiClass> classes) {
+        return filterStrict(classes.map(this::parse));
+    }
+
+    /**
+     * 流式解析控制类中满足条件的接口, 严格模式过滤同{@link #stream(Stream)}
+     */
+    public Stream<Api> stream(PsiClass psiClass, Predicate<PsiMethod> methodFilter) {
+        return filterStrict(Stream.of(psiClass).map(c -> parse(c, methodFilter)));
+    }
+
+    private Stream<Api> filterStrict(Stream<ClassApiData> classes) {
+        boolean strict = settings.isStrict();
+        return classes
+                .filter(data -> data.isValid() && (!strict || StringUtils.isNotEmpty(data.getDeclaredCategory())))
+                .flatMap(data -> data.getApis().stream())
+                .filter(api -> !strict || StringUtils.isNotEmpty(api.getSummary()));
+    }
+
     /**
      * 解析类级别信息，包括路径前缀、分类等
      */
@@ -106,6 +165,12 @@ public class ApiParser {
      * 解析某个方法的接口信息
      */
     private MethodApiData doParseMethod(PsiMethod method, ClassLevelApiInfo classLevelInfo) {
+        try (ParseProfiler.Scope ignored = ParseProfiler.enter(ProfileKinds.METHOD, method.getName())) {
+            return doParseMethodData(method, classLevelInfo);
+        }
+    }
+
+    private MethodApiData doParseMethodData(PsiMethod method, ClassLevelApiInfo classLevelInfo) {
         MethodApiData data = new MethodApiData();
 
         // 1.该方法是否被跳过
@@ -152,17 +217,26 @@ public class ApiParser {
         // 基本信息
         api.setMethod(path.getMethod());
         api.setSummary(parseHelper.getApiSummary(method));
-        api.setDescription(parseHelper.getApiDescription(method));
+        if (attributes.contains(ApiAttribute.API_DESCRIPTION)) {
+            api.setDescription(parseHelper.getApiDescription(method));
+        }
         api.setDeprecated(parseHelper.getApiDeprecated(method));
-        api.setTags(parseHelper.getApiTags(method));
+        if (attributes.contains(ApiAttribute.API_TAGS)) {
+            api.setTags(parseHelper.getApiTags(method));
+        }
         // 请求信息
-        RequestInfo requestInfo = requestParser.parse(method, path.getMethod());
+        RequestInfo requestInfo;
+        try (ParseProfiler.Scope ignored = ParseProfiler.enter(ProfileKinds.REQUEST, method.getName())) {
+            requestInfo = requestParser.parse(method, path.getMethod());
+        }
         api.setParameters(requestInfo.getParameters());
         api.setRequestBodyType(requestInfo.getRequestBodyType());
         api.setRequestBody(requestInfo.getRequestBody());
         api.setRequestBodyForm(requestInfo.getRequestBodyForm());
         // 响应信息
-        api.setResponses(responseParser.parse(method));
+        try (ParseProfiler.Scope ignored = ParseProfiler.enter(ProfileKinds.RESPONSE, method.getName())) {
+            api.setResponses(responseParser.parse(method));
+        }
         return api;
     }
 
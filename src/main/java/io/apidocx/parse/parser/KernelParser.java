@@ -16,11 +16,14 @@ import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiTypesUtil;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.config.BeanCustom;
+import io.apidocx.model.ApiAttribute;
 import io.apidocx.model.DataTypes;
 import io.apidocx.model.Property;
 import io.apidocx.parse.constant.DocumentTags;
 import io.apidocx.parse.model.Jsr303Info;
 import io.apidocx.parse.model.TypeParseContext;
+import io.apidocx.parse.profile.ParseProfiler;
+import io.apidocx.parse.profile.ProfileKinds;
 import io.apidocx.parse.util.PsiDocCommentUtils;
 import io.apidocx.parse.util.PsiFieldUtils;
 import io.apidocx.parse.util.PsiGenericUtils;
@@ -47,8 +50,14 @@ public class KernelParser {
     private final DateParser dateParser;
     private final ParseHelper parseHelper;
     private final boolean isResponse;
+    private final boolean needMock;
 
     public KernelParser(Project project, Module module, ApidocxConfig settings, boolean isResponse) {
+        this(project, module, settings, isResponse, ApiAttribute.all());
+    }
+
+    public KernelParser(Project project, Module module, ApidocxConfig settings, boolean isResponse,
+                        Set<ApiAttribute> attributes) {
         this.project = project;
         this.module = module;
         this.settings = settings;
@@ -57,6 +66,7 @@ public class KernelParser {
         this.dateParser = new DateParser(settings);
         this.parseHelper = new ParseHelper(project, module);
         this.isResponse = isResponse;
+        this.needMock = attributes.contains(ApiAttribute.PROPERTY_MOCK);
     }
 
     public Property parse(PsiType psiType) {
@@ -130,13 +140,14 @@ public class KernelParser {
         boolean isNeedParseObject = psiClass != null && property.isObjectType()
                 && (chains == null || !chains.contains(psiClass));
         if (isNeedParseObject) {
-            Map<String, Property> properties = doParseBean(context, type, genericTypes, psiClass, chains);
-            property.setProperties(properties);
+            try (ParseProfiler.Scope ignored = ParseProfiler.enter(ProfileKinds.TYPE, type)) {
+                Map<String, Property> properties = doParseBean(context, type, genericTypes, psiClass, chains);
+                property.setProperties(properties);
+            }
         }
 
         // Mock数据: 放最后面解析会用到上面的数据
-        String mock = mockParser.parse(property, psiType, null, null);
-        property.setMock(mock);
+        property.setMock(parseMock(property, psiType, null, null));
         return property;
     }
 
@@ -208,7 +219,7 @@ public class KernelParser {
 
                 fieldProperty.setName(filedName);
                 fieldProperty.setDeprecated(parseHelper.getApiDeprecated(method));
-                fieldProperty.setMock(mockParser.parse(fieldProperty, filedType, null, filedName));
+                fieldProperty.setMock(parseMock(fieldProperty, filedType, null, filedName));
                 if (beanCustom != null) {
                     handleWithBeanCustomField(fieldProperty, filedName, beanCustom);
                 }
@@ -257,7 +268,7 @@ public class KernelParser {
                 fieldProperty.setDescription(parseHelper.getFieldDescription(field, fieldProperty.getPropertyValues()));
                 fieldProperty.setDeprecated(parseHelper.getFieldDeprecated(field));
                 fieldProperty.setRequired(parseHelper.getFieldRequired(context, field));
-                fieldProperty.setMock(mockParser.parse(fieldProperty, fieldType, field, filedName));
+                fieldProperty.setMock(parseMock(fieldProperty, fieldType, field, filedName));
 
                 if (beanCustom != null) {
                     handleWithBeanCustomField(fieldProperty, filedName, beanCustom);
@@ -268,6 +279,16 @@ public class KernelParser {
         return properties;
     }
 
+    /**
+     * 解析mock, 处理器不需要时跳过
+     */
+    private String parseMock(Property property, PsiType type, PsiField field, String fieldName) {
+        if (!needMock) {
+            return null;
+        }
+        return mockParser.parse(property, type, field, fieldName);
+    }
+
     private Set<PsiClass> createNewChains(Set<PsiClass> chains, PsiClass psiClass) {
         Set<PsiClass> newer = (chains != null) ? Sets.newHashSet(chains) : Sets.newHashSet();
         newer.add(psiClass);
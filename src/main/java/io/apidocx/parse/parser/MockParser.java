@@ -7,17 +7,20 @@ import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiType;
 import io.apidocx.base.util.JsonUtils;
 import io.apidocx.config.ApidocxConfig;
-import io.apidocx.config.MockRule;
 import io.apidocx.model.DataTypes;
 import io.apidocx.model.Property;
 import io.apidocx.parse.constant.DocumentTags;
+import io.apidocx.parse.profile.ParseProfiler;
 import io.apidocx.parse.util.PropertiesLoader;
 import io.apidocx.parse.util.PsiDocCommentUtils;
 import io.apidocx.parse.util.PsiTypeUtils;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 
@@ -30,11 +33,18 @@ public class MockParser {
     private final Project project;
     private final Module module;
     private final ApidocxConfig settings;
+    private final MockRuleTable ruleTable;
+
+    /**
+     * 类型 + 字段名 + 约束 -> mock表达式
+     */
+    private final Map<String, Optional<String>> cache = new ConcurrentHashMap<>();
 
     public MockParser(Project project, Module module, ApidocxConfig settings) {
         this.project = project;
         this.module = module;
         this.settings = settings;
+        this.ruleTable = MockRuleTable.of(settings.getMockRules());
     }
 
     /**
@@ -49,6 +59,17 @@ public class MockParser {
             }
         }
 
+        String key = cacheKey(property, type, filedName);
+        Optional<String> mock = cache.get(key);
+        ParseProfiler.cache("mock", mock != null);
+        if (mock == null) {
+            mock = Optional.ofNullable(doParse(property, type, filedName));
+            cache.put(key, mock);
+        }
+        return mock.orElse(null);
+    }
+
+    private String doParse(Property property, PsiType type, String filedName) {
         // 时间类型
         if (DateParser.isDateType(type)) {
             String mock = "@integer(1210573684000, 1896710400000)";
@@ -131,15 +152,16 @@ public class MockParser {
      * 匹配自定义mock规则
      */
     private String matchRulesMock(String type, String filedName) {
-        if (settings.getMockRules() == null) {
-            return null;
-        }
-        for (MockRule rule : settings.getMockRules()) {
-            if (rule != null && rule.match(type, filedName)) {
-                return rule.getMock();
-            }
-        }
-        return null;
+        return ruleTable.match(type, filedName);
+    }
+
+    /**
+     * 缓存键: 结果仅取决于类型、字段名和属性约束
+     */
+    private static String cacheKey(Property property, PsiType type, String filedName) {
+        return StringUtils.join(new Object[]{type.getCanonicalText(), filedName, property.getType(),
+                property.getDateFormat(), property.getMinimum(), property.getMaximum(),
+                property.getMinLength(), property.getMaxLength(), property.getValueList()}, '\n');
     }
 
 }
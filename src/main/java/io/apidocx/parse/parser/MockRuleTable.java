@@ -0,0 +1,161 @@
+package io.apidocx.parse.parser;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.apidocx.config.MockRule;
+import io.apidocx.parse.profile.ParseProfiler;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 编译后的mock规则表: 按数据类型合并规则为一个正则, 并缓存字段匹配结果.
+ */
+public final class MockRuleTable {
+
+    private static final MockRuleTable EMPTY = new MockRuleTable(Collections.emptyList());
+
+    /**
+     * 规则列表 -> 规则表, 以列表实例为键(弱引用), 配置被回收后自动失效
+     */
+    private static final Cache<List<MockRule>, MockRuleTable> TABLES = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    /**
+     * 反向引用: 合并后分组序号会变化, 此类规则不参与合并
+     */
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\[1-9]|\\\\k<");
+
+    private final List<MockRule> rules;
+
+    /**
+     * 数据类型 -> 合并规则
+     */
+    private final Map<String, TypeRules> typeRules = new ConcurrentHashMap<>();
+
+    /**
+     * 数据类型 + 字段名 -> mock表达式
+     */
+    private final Map<String, Optional<String>> results = new ConcurrentHashMap<>();
+
+    private MockRuleTable(List<MockRule> rules) {
+        this.rules = rules.stream()
+                .filter(rule -> rule != null && rule.getType() != null && rule.getMatch() != null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取规则表
+     */
+    public static MockRuleTable of(List<MockRule> rules) {
+        if (rules == null || rules.isEmpty()) {
+            return EMPTY;
+        }
+        try {
+            return TABLES.get(rules, () -> new MockRuleTable(rules));
+        } catch (ExecutionException e) {
+            return new MockRuleTable(rules);
+        }
+    }
+
+    /**
+     * 匹配mock表达式, 语义同按顺序执行{@link MockRule#match(String, String)}
+     */
+    public String match(String type, String fieldName) {
+        if (rules.isEmpty() || type == null || StringUtils.isEmpty(fieldName)) {
+            return null;
+        }
+        String key = type + '\n' + fieldName;
+        Optional<String> mock = results.get(key);
+        ParseProfiler.cache("mockRule", mock != null);
+        if (mock == null) {
+            mock = Optional.ofNullable(doMatch(type, fieldName));
+            results.put(key, mock);
+        }
+        return mock.orElse(null);
+    }
+
+    private String doMatch(String type, String fieldName) {
+        TypeRules compiled = typeRules.computeIfAbsent(type, this::compile);
+        return compiled.match(fieldName);
+    }
+
+    private TypeRules compile(String type) {
+        List<MockRule> candidates = rules.stream()
+                .filter(rule -> rule.getType().contains(type))
+                .collect(Collectors.toList());
+        return new TypeRules(candidates);
+    }
+
+    /**
+     * 单个数据类型的规则: 可合并的规则组成一个分支正则, 分支顺序即规则顺序
+     */
+    private static class TypeRules {
+
+        private final List<MockRule> rules;
+        private final Pattern pattern;
+
+        TypeRules(List<MockRule> rules) {
+            this.rules = rules;
+            this.pattern = combine(rules);
+        }
+
+        String match(String fieldName) {
+            if (rules.isEmpty()) {
+                return null;
+            }
+            if (pattern == null) {
+                for (MockRule rule : rules) {
+                    if (rule.match(rule.getType(), fieldName)) {
+                        return rule.getMock();
+                    }
+                }
+                return null;
+            }
+            Matcher matcher = pattern.matcher(fieldName);
+            if (!matcher.matches()) {
+                return null;
+            }
+            for (int i = 0; i < rules.size(); i++) {
+                if (matcher.group("r" + i) != null) {
+                    return rules.get(i).getMock();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 合并为: (?<r0>(?:rule0))|(?<r1>(?:rule1))|..., 无法合并时返回null
+         */
+        private static Pattern combine(List<MockRule> rules) {
+            if (rules.isEmpty()) {
+                return null;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < rules.size(); i++) {
+                String match = rules.get(i).getMatch();
+                if (BACK_REFERENCE.matcher(match).find()) {
+                    return null;
+                }
+                if (i > 0) {
+                    sb.append('|');
+                }
+                sb.append("(?<r").append(i).append(">(?:").append(match).append("))");
+            }
+            try {
+                return Pattern.compile(sb.toString(), Pattern.CASE_INSENSITIVE);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+
+}
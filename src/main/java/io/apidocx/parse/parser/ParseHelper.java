@@ -34,6 +34,7 @@ import io.apidocx.parse.constant.JavaConstants;
 import io.apidocx.parse.constant.SpringConstants;
 import io.apidocx.parse.model.Jsr303Info;
 import io.apidocx.parse.model.TypeParseContext;
+import io.apidocx.parse.profile.ParseProfiler;
 import io.apidocx.parse.util.InternalUtils;
 import io.apidocx.parse.util.PsiAnnotationUtils;
 import io.apidocx.parse.util.PsiDocCommentUtils;
@@ -64,6 +65,11 @@ public class ParseHelper {
     private final Project project;
     private final Module module;
 
+    /**
+     * 枚举类 -> 只读值列表, 同一枚举的字段共享
+     */
+    private final Map<String, List<Value>> enumValuesCache = new ConcurrentHashMap<>();
+
     public ParseHelper(Project project, Module module) {
         this.project = project;
         this.module = module;
@@ -209,7 +215,21 @@ public class ParseHelper {
      * 获取枚举值列表
      */
     public List<Value> getEnumValues(PsiClass psiClass) {
-        return Arrays.stream(psiClass.getFields())
+        String qualifiedName = psiClass.getQualifiedName();
+        if (qualifiedName == null) {
+            return doGetEnumValues(psiClass);
+        }
+        List<Value> values = enumValuesCache.get(qualifiedName);
+        ParseProfiler.cache("enumValues", values != null);
+        if (values == null) {
+            values = doGetEnumValues(psiClass);
+            enumValuesCache.put(qualifiedName, values);
+        }
+        return values;
+    }
+
+    private List<Value> doGetEnumValues(PsiClass psiClass) {
+        List<Value> values = Arrays.stream(psiClass.getFields())
                 .filter(field -> field instanceof PsiEnumConstant)
                 .map(field -> {
                     String name = field.getName();
@@ -217,6 +237,7 @@ public class ParseHelper {
                     return new Value(name, description);
                 })
                 .collect(Collectors.toList());
+        return Collections.unmodifiableList(values);
     }
 
     //---------------------- 字段相关 ------------------------------//
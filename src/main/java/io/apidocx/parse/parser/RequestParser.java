@@ -16,6 +16,7 @@ import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiParameter;
 import io.apidocx.config.ApidocxConfig;
 import io.apidocx.config.ApidocxConfig.RequestBodyParamType;
+import io.apidocx.model.ApiAttribute;
 import io.apidocx.model.DataTypes;
 import io.apidocx.model.HttpMethod;
 import io.apidocx.model.ParameterIn;
@@ -56,8 +57,12 @@ public class RequestParser {
     private final DateParser dateParser;
 
     public RequestParser(Project project, Module module, ApidocxConfig settings) {
+        this(project, module, settings, ApiAttribute.all());
+    }
+
+    public RequestParser(Project project, Module module, ApidocxConfig settings, Set<ApiAttribute> attributes) {
         this.settings = settings;
-        this.kernelParser = new KernelParser(project, module, settings, false);
+        this.kernelParser = new KernelParser(project, module, settings, false, attributes);
         this.dateParser = new DateParser(settings);
         this.parseHelper = new ParseHelper(project, module);
     }
@@ -8,12 +8,14 @@ import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiTypesUtil;
 import io.apidocx.config.ApidocxConfig;
+import io.apidocx.model.ApiAttribute;
 import io.apidocx.model.Property;
 import io.apidocx.parse.util.PsiGenericUtils;
 import io.apidocx.parse.util.PsiTypeUtils;
 import io.apidocx.parse.util.PsiUtils;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -30,10 +32,14 @@ public class ResponseParser {
     private final ParseHelper parseHelper;
 
     public ResponseParser(Project project, Module module, ApidocxConfig settings) {
+        this(project, module, settings, ApiAttribute.all());
+    }
+
+    public ResponseParser(Project project, Module module, ApidocxConfig settings, Set<ApiAttribute> attributes) {
         this.project = project;
         this.module = module;
         this.settings = settings;
-        this.kernelParser = new KernelParser(project, module, settings, true);
+        this.kernelParser = new KernelParser(project, module, settings, true, attributes);
         this.parseHelper = new ParseHelper(project, module);
     }
 
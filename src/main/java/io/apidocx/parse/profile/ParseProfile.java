@@ -0,0 +1,60 @@
+package io.apidocx.parse.profile;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+
+/**
+ * 一次解析的性能剖析结果
+ */
+@Data
+public class ParseProfile {
+
+    /**
+     * 总耗时(毫秒)
+     */
+    private double totalMillis;
+
+    /**
+     * 计数项
+     */
+    private Map<ProfileCounter, Long> counters;
+
+    /**
+     * 缓存命中情况
+     */
+    private Map<String, CacheStat> caches;
+
+    /**
+     * 耗时最多的类型
+     */
+    private List<TypeStat> topTypes;
+
+    /**
+     * 耗时树: 控制类 -> 方法 -> 请求/响应 -> 类型
+     */
+    private ProfileNode root;
+
+    @Data
+    public static class CacheStat {
+
+        private long hits;
+
+        private long misses;
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    @Data
+    public static class TypeStat {
+
+        private String type;
+
+        private long calls;
+
+        private double millis;
+    }
+}
@@ -0,0 +1,65 @@
+package io.apidocx.parse.profile;
+
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.treeStructure.Tree;
+import java.awt.BorderLayout;
+import java.util.Map;
+import javax.swing.JPanel;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+
+/**
+ * 解析性能剖析结果树
+ */
+public class ParseProfilePanel extends JPanel {
+
+    private final Tree tree = new Tree(new DefaultTreeModel(new DefaultMutableTreeNode("No profile")));
+
+    public ParseProfilePanel() {
+        super(new BorderLayout());
+        add(new JBScrollPane(tree), BorderLayout.CENTER);
+    }
+
+    public void update(ParseProfile profile) {
+        DefaultMutableTreeNode root = new DefaultMutableTreeNode(
+                String.format("parse  %.2fms", profile.getTotalMillis()));
+
+        DefaultMutableTreeNode counters = new DefaultMutableTreeNode("counters");
+        for (Map.Entry<ProfileCounter, Long> entry : profile.getCounters().entrySet()) {
+            counters.add(new DefaultMutableTreeNode(entry.getKey() + ": " + entry.getValue()));
+        }
+        root.add(counters);
+
+        DefaultMutableTreeNode caches = new DefaultMutableTreeNode("caches");
+        for (Map.Entry<String, ParseProfile.CacheStat> entry : profile.getCaches().entrySet()) {
+            ParseProfile.CacheStat stat = entry.getValue();
+            caches.add(new DefaultMutableTreeNode(String.format("%s: hits %d, misses %d, rate %.1f%%",
+                    entry.getKey(), stat.getHits(), stat.getMisses(), stat.getHitRate() * 100)));
+        }
+        root.add(caches);
+
+        DefaultMutableTreeNode topTypes = new DefaultMutableTreeNode("top types");
+        for (ParseProfile.TypeStat stat : profile.getTopTypes()) {
+            topTypes.add(new DefaultMutableTreeNode(
+                    String.format("%s  %.2fms x%d", stat.getType(), stat.getMillis(), stat.getCalls())));
+        }
+        root.add(topTypes);
+
+        DefaultMutableTreeNode timings = new DefaultMutableTreeNode("timings");
+        for (ProfileNode child : profile.getRoot().getChildren()) {
+            timings.add(toTreeNode(child));
+        }
+        root.add(timings);
+
+        tree.setModel(new DefaultTreeModel(root));
+        tree.expandRow(0);
+    }
+
+    private DefaultMutableTreeNode toTreeNode(ProfileNode node) {
+        DefaultMutableTreeNode treeNode = new DefaultMutableTreeNode(node);
+        for (ProfileNode child : node.getChildren()) {
+            treeNode.add(toTreeNode(child));
+        }
+        return treeNode;
+    }
+}
@@ -0,0 +1,65 @@
+package io.apidocx.parse.profile;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.ui.content.Content;
+import io.apidocx.base.util.NotificationUtils;
+import io.apidocx.config.DefaultConstants;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 输出解析性能剖析结果: 写入json文件并展示到工具窗口
+ */
+@UtilityClass
+public class ParseProfileReporter {
+
+    private static final String FILE = "apidocx-profile.json";
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    public static void report(Project project, ParseProfile profile) {
+        if (profile == null) {
+            return;
+        }
+        File file = new File(PathManager.getLogPath(), FILE);
+        try {
+            Files.write(file.toPath(), toJson(profile).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            NotificationUtils.notifyWarning(DefaultConstants.NAME, "Write profile failed: " + e.getMessage());
+        }
+        NotificationUtils.notifyInfo(DefaultConstants.NAME, String.format("Parse profile: %.2fms, saved to %s",
+                profile.getTotalMillis(), file.getAbsolutePath()));
+
+        ApplicationManager.getApplication().invokeLater(() -> {
+            if (project.isDisposed()) {
+                return;
+            }
+            ToolWindow toolWindow = ToolWindowManager.getInstance(project)
+                    .getToolWindow(ParseProfileToolWindowFactory.ID);
+            if (toolWindow == null) {
+                return;
+            }
+            toolWindow.setAvailable(true);
+            toolWindow.show(() -> {
+                for (Content content : toolWindow.getContentManager().getContents()) {
+                    if (content.getComponent() instanceof ParseProfilePanel) {
+                        ((ParseProfilePanel) content.getComponent()).update(profile);
+                    }
+                }
+            });
+        });
+    }
+
+    public static String toJson(ParseProfile profile) {
+        return gson.toJson(profile);
+    }
+}
@@ -0,0 +1,28 @@
+package io.apidocx.parse.profile;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import io.apidocx.config.ApidocxSettings;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 解析性能剖析工具窗口: 启动时仅在开启剖析时显示, 之后开启剖析时由输出结果时显示
+ */
+public class ParseProfileToolWindowFactory implements ToolWindowFactory {
+
+    public static final String ID = "Apidocx Profile";
+
+    @Override
+    public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        Content content = ContentFactory.SERVICE.getInstance().createContent(new ParseProfilePanel(), "", false);
+        toolWindow.getContentManager().addContent(content);
+    }
+
+    @Override
+    public boolean shouldBeAvailable(@NotNull Project project) {
+        return ApidocxSettings.getInstance().isProfileEnabled();
+    }
+}
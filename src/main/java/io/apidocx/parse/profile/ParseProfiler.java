@@ -0,0 +1,144 @@
+package io.apidocx.parse.profile;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 解析性能剖析: 记录控制类、方法、类型的耗时以及关键调用计数.
+ * <p>
+ * 以线程为单位收集, 未开启时所有记录方法均为空操作.
+ */
+public final class ParseProfiler {
+
+    private static final ThreadLocal<ParseProfiler> CURRENT = new ThreadLocal<>();
+
+    private static final int TOP_TYPES = 20;
+
+    private static final Scope NOOP = () -> {
+    };
+
+    private final long startNanos = System.nanoTime();
+    private final ProfileNode root = new ProfileNode("root", "parse");
+    private final Deque<ProfileNode> stack = new ArrayDeque<>();
+    private final Map<ProfileCounter, Long> counters = new EnumMap<>(ProfileCounter.class);
+    private final Map<String, ParseProfile.CacheStat> caches = new TreeMap<>();
+    private final Map<String, long[]> types = new LinkedHashMap<>();
+
+    private ParseProfiler() {
+        stack.push(root);
+    }
+
+    /**
+     * 当前线程开始剖析
+     */
+    public static void start() {
+        CURRENT.set(new ParseProfiler());
+    }
+
+    /**
+     * 当前线程结束剖析并返回结果, 未开始返回null
+     */
+    public static ParseProfile stop() {
+        ParseProfiler profiler = CURRENT.get();
+        CURRENT.remove();
+        return profiler != null ? profiler.toProfile() : null;
+    }
+
+    public static boolean isEnabled() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 进入一个计时阶段, 使用try-with-resources结束
+     */
+    public static Scope enter(String kind, String name) {
+        ParseProfiler profiler = CURRENT.get();
+        if (profiler == null) {
+            return NOOP;
+        }
+        return profiler.doEnter(kind, name);
+    }
+
+    /**
+     * 计数
+     */
+    public static void count(ProfileCounter counter) {
+        ParseProfiler profiler = CURRENT.get();
+        if (profiler != null) {
+            profiler.counters.merge(counter, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * 记录缓存是否命中
+     */
+    public static void cache(String name, boolean hit) {
+        ParseProfiler profiler = CURRENT.get();
+        if (profiler == null) {
+            return;
+        }
+        ParseProfile.CacheStat stat = profiler.caches.computeIfAbsent(name, key -> new ParseProfile.CacheStat());
+        if (hit) {
+            stat.setHits(stat.getHits() + 1);
+        } else {
+            stat.setMisses(stat.getMisses() + 1);
+        }
+    }
+
+    private Scope doEnter(String kind, String name) {
+        ProfileNode node = stack.peek().child(kind, name);
+        stack.push(node);
+        long begin = System.nanoTime();
+        return () -> {
+            long cost = System.nanoTime() - begin;
+            node.record(cost);
+            stack.pop();
+            if (ProfileKinds.TYPE.equals(kind)) {
+                long[] stat = types.computeIfAbsent(name, key -> new long[2]);
+                stat[0]++;
+                stat[1] += cost;
+            }
+        };
+    }
+
+    private ParseProfile toProfile() {
+        long total = System.nanoTime() - startNanos;
+        root.record(total);
+
+        List<ParseProfile.TypeStat> topTypes = types.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1]).reversed())
+                .limit(TOP_TYPES)
+                .map(e -> {
+                    ParseProfile.TypeStat stat = new ParseProfile.TypeStat();
+                    stat.setType(e.getKey());
+                    stat.setCalls(e.getValue()[0]);
+                    stat.setMillis(e.getValue()[1] / 1_000_000.0);
+                    return stat;
+                })
+                .collect(Collectors.toList());
+
+        ParseProfile profile = new ParseProfile();
+        profile.setTotalMillis(total / 1_000_000.0);
+        profile.setCounters(counters);
+        profile.setCaches(caches);
+        profile.setTopTypes(topTypes);
+        profile.setRoot(root);
+        return profile;
+    }
+
+    /**
+     * 计时阶段
+     */
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,22 @@
+package io.apidocx.parse.profile;
+
+/**
+ * 解析计数项
+ */
+public enum ProfileCounter {
+
+    /**
+     * 查找类: PsiUtils.findPsiClass
+     */
+    FIND_PSI_CLASS,
+
+    /**
+     * 文档注释查找
+     */
+    DOC_COMMENT,
+
+    /**
+     * 泛型解析
+     */
+    GENERIC_RESOLVE,
+}
@@ -0,0 +1,17 @@
+package io.apidocx.parse.profile;
+
+/**
+ * 耗时树节点类型
+ */
+public interface ProfileKinds {
+
+    String CONTROLLER = "controller";
+
+    String METHOD = "method";
+
+    String REQUEST = "request";
+
+    String RESPONSE = "response";
+
+    String TYPE = "type";
+}
@@ -0,0 +1,62 @@
+package io.apidocx.parse.profile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * 耗时树节点
+ */
+@Getter
+public class ProfileNode {
+
+    /**
+     * 节点类型: controller, method, request, response, type
+     */
+    private final String kind;
+
+    private final String name;
+
+    /**
+     * 调用次数
+     */
+    private int calls;
+
+    /**
+     * 累计耗时(纳秒)
+     */
+    private long nanos;
+
+    private final List<ProfileNode> children = new ArrayList<>();
+
+    ProfileNode(String kind, String name) {
+        this.kind = kind;
+        this.name = name;
+    }
+
+    ProfileNode child(String kind, String name) {
+        for (ProfileNode child : children) {
+            if (Objects.equals(child.kind, kind) && Objects.equals(child.name, name)) {
+                return child;
+            }
+        }
+        ProfileNode child = new ProfileNode(kind, name);
+        children.add(child);
+        return child;
+    }
+
+    void record(long nanos) {
+        this.calls++;
+        this.nanos += nanos;
+    }
+
+    public double getMillis() {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] %s  %.2fms x%d", kind, name, getMillis(), calls);
+    }
+}
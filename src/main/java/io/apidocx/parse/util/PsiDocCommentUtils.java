@@ -7,6 +7,8 @@ import com.intellij.psi.javadoc.PsiDocTag;
 import com.intellij.psi.javadoc.PsiDocToken;
 import com.intellij.psi.javadoc.PsiInlineDocTag;
 import io.apidocx.parse.constant.DocumentTags;
+import io.apidocx.parse.profile.ParseProfiler;
+import io.apidocx.parse.profile.ProfileCounter;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -81,6 +83,7 @@ public class PsiDocCommentUtils {
      */
     public static String getDocCommentTagText(PsiJavaDocumentedElement element, String tagName) {
         String text = null;
+        ParseProfiler.count(ProfileCounter.DOC_COMMENT);
         PsiDocComment comment = element.getDocComment();
         if (comment != null) {
             PsiDocTag tag = comment.findTagByName(tagName);
@@ -99,6 +102,7 @@ public class PsiDocCommentUtils {
      * 获取文档标题行
      */
     public static String getDocCommentTitle(PsiJavaDocumentedElement element) {
+        ParseProfiler.count(ProfileCounter.DOC_COMMENT);
         PsiDocComment comment = element.getDocComment();
         if (comment != null) {
             return Arrays.stream(comment.getDescriptionElements())
@@ -115,6 +119,7 @@ public class PsiDocCommentUtils {
      * 获取文档注释上的标记
      */
     public static PsiDocTag findTagByName(PsiJavaDocumentedElement element, String tagName) {
+        ParseProfiler.count(ProfileCounter.DOC_COMMENT);
         PsiDocComment comment = element.getDocComment();
         if (comment != null) {
             return comment.findTagByName(tagName);
@@ -127,6 +132,7 @@ public class PsiDocCommentUtils {
      * 获取文档注释上的标记
      */
     public static PsiDocTag[] findTagsByName(PsiJavaDocumentedElement element, String tagName) {
+        ParseProfiler.count(ProfileCounter.DOC_COMMENT);
         PsiDocComment comment = element.getDocComment();
         if (comment != null) {
             return comment.findTagsByName(tagName);
@@ -138,6 +144,7 @@ public class PsiDocCommentUtils {
      * 获取注释中link标记的内容
      */
     public static String getInlineLinkContent(PsiJavaDocumentedElement element) {
+        ParseProfiler.count(ProfileCounter.DOC_COMMENT);
         PsiDocComment comment = element.getDocComment();
         if (comment == null) {
             return null;
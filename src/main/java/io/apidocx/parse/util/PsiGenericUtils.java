@@ -3,6 +3,8 @@ package io.apidocx.parse.util;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
+import io.apidocx.parse.profile.ParseProfiler;
+import io.apidocx.parse.profile.ProfileCounter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +24,7 @@ public class PsiGenericUtils {
      * 输出: List, List<Item>
      */
     public static String getRealTypeWithGeneric(PsiClass clazz, PsiType type, String genericTypes) {
+        ParseProfiler.count(ProfileCounter.GENERIC_RESOLVE);
         String[] generics = genericTypes != null ? splitGenericParameters(genericTypes) : new String[0];
 
         Map<String, String> genericMap = new HashMap<>();
@@ -13,6 +13,8 @@ import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.PsiShortNamesCache;
+import io.apidocx.parse.profile.ParseProfiler;
+import io.apidocx.parse.profile.ProfileCounter;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -58,6 +60,7 @@ public class PsiUtils {
      * 优先从当前模块依赖, 其次当前工程作用域
      */
     public static PsiClass findPsiClassByShortName(Project project, Module module, String shortName) {
+        ParseProfiler.count(ProfileCounter.FIND_PSI_CLASS);
         PsiClass psiClass = null;
         if (module != null) {
             psiClass = Optional.ofNullable(PsiShortNamesCache.getInstance(project)
@@ -78,17 +81,13 @@ public class PsiUtils {
 
     /**
      * 根据类全限定名获取PsiClass
-     * 优先从当前模块依赖, 其次当前工程作用域
+     * 在当前模块及其依赖中查找, 未指定模块时在全部作用域中查找
      */
     public static PsiClass findPsiClass(Project project, Module module, String qualifiedName) {
-        PsiClass psiClass = null;
-        if (module != null) {
-            psiClass = JavaPsiFacade.getInstance(project)
-                    .findClass(qualifiedName, GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module));
-        }
-        if (psiClass == null) {
-            psiClass = JavaPsiFacade.getInstance(project).findClass(qualifiedName, GlobalSearchScope.allScope(project));
-        }
+        ParseProfiler.count(ProfileCounter.FIND_PSI_CLASS);
+        GlobalSearchScope scope = module != null ? GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module)
+                : GlobalSearchScope.allScope(project);
+        PsiClass psiClass = JavaPsiFacade.getInstance(project).findClass(qualifiedName, scope);
         if (psiClass != null && psiClass.canNavigate()) {
             psiClass = (PsiClass) psiClass.getNavigationElement();
         }
@@ -0,0 +1,191 @@
+package io.apidocx.parse.warmup;
+
+import com.intellij.ide.IdeEventQueue;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorBase;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FileTypeIndex;
+import io.apidocx.base.util.PsiFileUtils;
+import io.apidocx.config.ApidocxConfig;
+import io.apidocx.config.ApidocxConfigService;
+import io.apidocx.config.ApidocxConfigUtils;
+import io.apidocx.model.ApiAttribute;
+import io.apidocx.parse.ApiParser;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 解析缓存预热: 用户空闲时在后台逐个解析已配置模块下的控制类, 填充PSI解析、文档注释及配置等缓存,
+ * 文件之间限速; 用户有操作时中断, 下次空闲时从中断的文件继续, 全部完成后释放.
+ * <p>
+ * 解析器的备忘表依赖动作时的PSI, 不跨动作复用, 因此每个文件使用新的解析器, 解析后即丢弃.
+ */
+class ParseWarmer implements Disposable {
+
+    /**
+     * 空闲多久后开始(毫秒)
+     */
+    private static final int IDLE_MILLIS = 3000;
+
+    /**
+     * 文件之间的间隔(毫秒)
+     */
+    private static final long PAUSE_MILLIS = 50;
+
+    private final Project project;
+    private final Runnable idleListener = this::onIdle;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 待预热文件, 为null表示尚未收集
+     */
+    private Deque<Target> targets;
+    private volatile ProgressIndicator indicator;
+
+    ParseWarmer(Project project) {
+        this.project = project;
+    }
+
+    void start() {
+        Disposer.register(project, this);
+        IdeEventQueue.getInstance().addIdleListener(idleListener, IDLE_MILLIS);
+        IdeEventQueue.getInstance().addActivityListener(this::onActivity, this);
+    }
+
+    @Override
+    public void dispose() {
+        IdeEventQueue.getInstance().removeIdleListener(idleListener);
+        onActivity();
+    }
+
+    private void onActivity() {
+        ProgressIndicator current = indicator;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    private void onIdle() {
+        if (project.isDisposed() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        ProgressIndicator current = new ProgressIndicatorBase();
+        indicator = current;
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            boolean finished = false;
+            try {
+                finished = ProgressManager.getInstance().runProcess(() -> run(current), current);
+            } catch (ProcessCanceledException e) {
+                // 用户操作, 等待下次空闲
+            } finally {
+                indicator = null;
+                running.set(false);
+            }
+            if (finished) {
+                ApplicationManager.getApplication().invokeLater(() -> Disposer.dispose(this));
+            }
+        });
+    }
+
+    /**
+     * 执行预热, 全部完成返回true
+     */
+    private boolean run(ProgressIndicator indicator) {
+        if (targets == null) {
+            targets = ReadAction.nonBlocking(this::collectTargets)
+                    .inSmartMode(project)
+                    .expireWith(this)
+                    .wrapProgress(indicator)
+                    .executeSynchronously();
+        }
+        PsiManager psiManager = PsiManager.getInstance(project);
+        while (!targets.isEmpty()) {
+            indicator.checkCanceled();
+            Target target = targets.peek();
+            ReadAction.nonBlocking(() -> warm(target, psiManager))
+                    .inSmartMode(project)
+                    .expireWith(this)
+                    .wrapProgress(indicator)
+                    .executeSynchronously();
+            targets.poll();
+            try {
+                Thread.sleep(PAUSE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 收集存在配置文件的模块下的java文件
+     */
+    private Deque<Target> collectTargets() {
+        Deque<Target> result = new ArrayDeque<>();
+        ApidocxConfigService configService = ApidocxConfigService.getInstance(project);
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            VirtualFile configFile = ApidocxConfigUtils.findConfigFile(project, module);
+            if (configFile == null || !configFile.exists()) {
+                continue;
+            }
+            ApidocxConfig config;
+            try {
+                config = configService.getConfig(configFile);
+            } catch (IOException e) {
+                continue;
+            }
+            for (VirtualFile file : FileTypeIndex.getFiles(JavaFileType.INSTANCE, module.getModuleScope(false))) {
+                result.add(new Target(module, config, file));
+            }
+        }
+        return result;
+    }
+
+    private Void warm(Target target, PsiManager psiManager) {
+        if (!target.file.isValid() || target.module.isDisposed()) {
+            return null;
+        }
+        PsiFile psiFile = psiManager.findFile(target.file);
+        if (!(psiFile instanceof PsiJavaFile)) {
+            return null;
+        }
+        PsiClass psiClass = PsiFileUtils.getPsiClassByFile((PsiJavaFile) psiFile);
+        if (psiClass != null) {
+            ApiParser parser = new ApiParser(project, target.module, target.config, ApiAttribute.all());
+            parser.stream(Stream.of(psiClass)).forEach(api -> {
+            });
+        }
+        return null;
+    }
+
+    private static class Target {
+
+        private final Module module;
+        private final ApidocxConfig config;
+        private final VirtualFile file;
+
+        Target(Module module, ApidocxConfig config, VirtualFile file) {
+            this.module = module;
+            this.config = config;
+            this.file = file;
+        }
+    }
+}
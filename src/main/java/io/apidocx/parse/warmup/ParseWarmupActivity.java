@@ -0,0 +1,25 @@
+package io.apidocx.parse.warmup;
+
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import io.apidocx.config.ApidocxSettings;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 索引完成后启动解析缓存预热(需在设置中开启).
+ */
+public class ParseWarmupActivity implements StartupActivity.Background {
+
+    @Override
+    public void runActivity(@NotNull Project project) {
+        if (!ApidocxSettings.getInstance().isWarmupEnabled()) {
+            return;
+        }
+        DumbService.getInstance(project).runWhenSmart(() -> {
+            if (!project.isDisposed()) {
+                new ParseWarmer(project).start();
+            }
+        });
+    }
+}
@@ -0,0 +1,224 @@
+package io.apidocx.sync;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportStatementBase;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiReferenceList;
+import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import io.apidocx.config.ApidocxConfig;
+import io.apidocx.config.ApidocxConfigService;
+import io.apidocx.config.ApidocxConfigUtils;
+import io.apidocx.model.Api;
+import io.apidocx.model.ApiAttribute;
+import io.apidocx.parse.ApiParser;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 查找文件变更影响的接口: 变更的控制类中的全部接口, 以及直接或间接(经由其他类型)引用变更类型的接口方法.
+ * 只追踪声明中的引用(字段、方法签名、继承), 追踪的类型数和引用数有上限. 需在读操作中执行, 每一步检查取消.
+ */
+class AffectedApiFinder {
+
+    /**
+     * 类型间接引用的最大层级
+     */
+    private static final int MAX_DEPTH = 3;
+
+    /**
+     * 追踪的类型数上限, 超出后不再追踪新的类型
+     */
+    private static final int MAX_TYPES = 200;
+
+    /**
+     * 每个类型处理的引用数上限
+     */
+    private static final int MAX_REFERENCES = 500;
+
+    private final Project project;
+    private final PsiManager psiManager;
+
+    /**
+     * 同步动作需要的可选属性
+     */
+    private final Set<ApiAttribute> attributes;
+
+    /**
+     * 模块 -> 解析器, 模块不存在配置文件时为空
+     */
+    private final Map<Module, Optional<ModuleParser>> parsers = new HashMap<>();
+
+    /**
+     * 控制类 -> 受影响的方法, 为null时表示全部方法
+     */
+    private final Map<PsiClass, Set<PsiMethod>> affected = new LinkedHashMap<>();
+
+    AffectedApiFinder(Project project, Set<ApiAttribute> attributes) {
+        this.project = project;
+        this.psiManager = PsiManager.getInstance(project);
+        this.attributes = attributes;
+    }
+
+    /**
+     * 查找并解析受影响的接口, 按模块配置分组
+     */
+    List<SyncBatch> find(Collection<VirtualFile> files) {
+        Deque<PsiClass> types = new ArrayDeque<>();
+        Map<PsiClass, Integer> depths = new HashMap<>();
+        for (VirtualFile file : files) {
+            ProgressManager.checkCanceled();
+            if (!file.isValid()) {
+                continue;
+            }
+            PsiFile psiFile = psiManager.findFile(file);
+            if (!(psiFile instanceof PsiJavaFile)) {
+                continue;
+            }
+            for (PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+                ModuleParser parser = getParser(psiClass);
+                if (parser != null && parser.parser.isController(psiClass)) {
+                    affected.put(psiClass, null);
+                } else if (depths.putIfAbsent(psiClass, 0) == null) {
+                    types.add(psiClass);
+                }
+            }
+        }
+
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        while (!types.isEmpty()) {
+            ProgressManager.checkCanceled();
+            PsiClass type = types.poll();
+            int depth = depths.get(type);
+            AtomicInteger count = new AtomicInteger();
+            ReferencesSearch.search(type, scope).forEach(reference -> {
+                ProgressManager.checkCanceled();
+                visit(reference, depth, types, depths);
+                return count.incrementAndGet() < MAX_REFERENCES;
+            });
+        }
+        return parse();
+    }
+
+    private void visit(PsiReference reference, int depth, Deque<PsiClass> types, Map<PsiClass, Integer> depths) {
+        PsiElement element = reference.getElement();
+        if (!isDeclarationReference(element)) {
+            return;
+        }
+        PsiClass owner = PsiTreeUtil.getParentOfType(element, PsiClass.class);
+        if (owner == null) {
+            return;
+        }
+        ModuleParser parser = getParser(owner);
+        if (parser != null && parser.parser.isController(owner)) {
+            PsiMethod method = PsiTreeUtil.getParentOfType(element, PsiMethod.class);
+            addAffected(owner, method != null && owner.equals(method.getContainingClass()) ? method : null);
+        } else if (depth < MAX_DEPTH && depths.size() < MAX_TYPES && depths.putIfAbsent(owner, depth + 1) == null) {
+            types.add(owner);
+        }
+    }
+
+    /**
+     * 是否是声明中的引用: 字段类型、方法签名和注解、继承; 方法体、导入和注释中的引用不影响接口结构
+     */
+    private static boolean isDeclarationReference(PsiElement element) {
+        if (PsiTreeUtil.getParentOfType(element, PsiCodeBlock.class, PsiImportStatementBase.class,
+                PsiDocComment.class) != null) {
+            return false;
+        }
+        return PsiTreeUtil.getParentOfType(element, PsiField.class, PsiMethod.class, PsiReferenceList.class) != null;
+    }
+
+    private void addAffected(PsiClass controller, PsiMethod method) {
+        if (affected.containsKey(controller)) {
+            Set<PsiMethod> methods = affected.get(controller);
+            if (methods != null && method != null) {
+                methods.add(method);
+            } else {
+                affected.put(controller, null);
+            }
+            return;
+        }
+        Set<PsiMethod> methods = null;
+        if (method != null) {
+            methods = new HashSet<>();
+            methods.add(method);
+        }
+        affected.put(controller, methods);
+    }
+
+    private List<SyncBatch> parse() {
+        Map<ModuleParser, List<Api>> apis = new LinkedHashMap<>();
+        affected.forEach((controller, methods) -> {
+            ProgressManager.checkCanceled();
+            ModuleParser parser = getParser(controller);
+            List<Api> controllerApis = parser.parser
+                    .stream(controller, method -> methods == null || methods.contains(method))
+                    .collect(Collectors.toList());
+            apis.computeIfAbsent(parser, key -> new ArrayList<>()).addAll(controllerApis);
+        });
+        return apis.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> new SyncBatch(entry.getKey().config, entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private ModuleParser getParser(PsiClass psiClass) {
+        Module module = ModuleUtilCore.findModuleForPsiElement(psiClass);
+        if (module == null) {
+            return null;
+        }
+        return parsers.computeIfAbsent(module, this::createParser).orElse(null);
+    }
+
+    private Optional<ModuleParser> createParser(Module module) {
+        VirtualFile configFile = ApidocxConfigUtils.findConfigFile(project, module);
+        if (configFile == null || !configFile.exists()) {
+            return Optional.empty();
+        }
+        try {
+            ApidocxConfig config = ApidocxConfigService.getInstance(project).getConfig(configFile);
+            return Optional.of(new ModuleParser(config, new ApiParser(project, module, config, attributes)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static class ModuleParser {
+
+        private final ApidocxConfig config;
+        private final ApiParser parser;
+
+        ModuleParser(ApidocxConfig config, ApiParser parser) {
+            this.config = config;
+            this.parser = parser;
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.apidocx.sync;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 启动保存时自动同步的监听, 是否同步由设置决定.
+ */
+public class AutoSyncActivity implements StartupActivity.Background {
+
+    @Override
+    public void runActivity(@NotNull Project project) {
+        AutoSyncService.getInstance(project).start();
+    }
+}
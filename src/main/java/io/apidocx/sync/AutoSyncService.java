@@ -0,0 +1,122 @@
+package io.apidocx.sync;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.fileTypes.FileTypeRegistry;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.Alarm;
+import io.apidocx.action.ActionType;
+import io.apidocx.action.SyncableAction;
+import io.apidocx.config.ApidocxSettings;
+import io.apidocx.model.ApiAttribute;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 保存时自动同步: 保存java文件后等待一段静默期, 合并期间的所有变更, 仅解析并上传受影响的接口到默认平台.
+ */
+public class AutoSyncService implements Disposable {
+
+    /**
+     * 静默期(毫秒)
+     */
+    private static final int QUIET_MILLIS = 2000;
+
+    private final Project project;
+    private final Alarm alarm;
+    private final Set<VirtualFile> pending = ConcurrentHashMap.newKeySet();
+
+    public AutoSyncService(Project project) {
+        this.project = project;
+        this.alarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+    }
+
+    public static AutoSyncService getInstance(Project project) {
+        return ServiceManager.getService(project, AutoSyncService.class);
+    }
+
+    /**
+     * 开始监听文件保存
+     */
+    void start() {
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                onFilesChanged(events);
+            }
+        });
+    }
+
+    @Override
+    public void dispose() {
+        pending.clear();
+    }
+
+    private void onFilesChanged(List<? extends VFileEvent> events) {
+        if (project.isDisposed() || !ApidocxSettings.getInstance().isAutoSyncEnabled()) {
+            return;
+        }
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        boolean changed = false;
+        for (VFileEvent event : events) {
+            if (!(event instanceof VFileContentChangeEvent) || !event.isFromSave()) {
+                continue;
+            }
+            VirtualFile file = event.getFile();
+            if (FileTypeRegistry.getInstance().isFileOfType(file, JavaFileType.INSTANCE)
+                    && fileIndex.isInSourceContent(file)) {
+                pending.add(file);
+                changed = true;
+            }
+        }
+        if (changed) {
+            alarm.cancelAllRequests();
+            alarm.addRequest(this::sync, QUIET_MILLIS);
+        }
+    }
+
+    private void sync() {
+        List<VirtualFile> files = new ArrayList<>(pending);
+        pending.removeAll(files);
+        if (files.isEmpty() || project.isDisposed()) {
+            return;
+        }
+        ActionType actionType = ApidocxSettings.getInstance().getDefaultAction();
+        AnAction action = actionType != null ? actionType.getAction() : null;
+        if (!(action instanceof SyncableAction)) {
+            return;
+        }
+        SyncableAction syncAction = (SyncableAction) action;
+        Set<ApiAttribute> attributes = syncAction.getRequiredAttributes();
+        List<SyncBatch> batches;
+        try {
+            batches = ReadAction.nonBlocking(() -> new AffectedApiFinder(project, attributes).find(files))
+                    .inSmartMode(project)
+                    .expireWith(this)
+                    .executeSynchronously();
+        } catch (ProcessCanceledException e) {
+            return;
+        }
+        for (SyncBatch batch : batches) {
+            if (!syncAction.canSync(project, batch.getConfig())) {
+                continue;
+            }
+            ApplicationManager.getApplication().invokeLater(
+                    () -> syncAction.upload(project, batch.getConfig(), batch.getApis()), project.getDisposed());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.apidocx.sync;
+
+import io.apidocx.config.ApidocxConfig;
+import io.apidocx.model.Api;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 同一配置下待同步的接口
+ */
+@Getter
+class SyncBatch {
+
+    private final ApidocxConfig config;
+    private final List<Api> apis;
+
+    SyncBatch(ApidocxConfig config, List<Api> apis) {
+        this.config = config;
+        this.apis = apis;
+    }
+}
@@ -0,0 +1,163 @@
+package io.apidocx.base.sdk.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+class BeanFormCodecTest {
+
+    private static final Gson gson = new Gson();
+
+    @Test
+    void sameAsBeanToMapWhenFieldsAreSet() {
+        Request request = new Request();
+        request.itemId = "1";
+        request.name = "name";
+        request.count = 3;
+        request.enabled = true;
+        request.kind = Kind.B;
+        request.createdAt = new Date(0);
+        request.tags = Lists.newArrayList("a", "b");
+        request.ids = new long[]{1, 2};
+        request.extra = ImmutableMap.of("k", 1);
+        request.nested = new Nested();
+        request.nested.value = "v";
+        request.secret = "secret";
+
+        Map<String, String> params = BeanFormCodec.encode(request);
+        assertEquals(beanToMap(request), params);
+        assertEquals("1", params.get("item_id"));
+        assertEquals("[\"a\",\"b\"]", params.get("tags"));
+        assertFalse(params.containsKey("secret"));
+        assertFalse(params.containsKey("IGNORED"));
+    }
+
+    /**
+     * 旧实现把为null的集合和对象转为"[]"和"{}", 现在省略, 其余字段不变
+     */
+    @Test
+    void omitsNullFields() {
+        Request request = new Request();
+        request.name = "name";
+
+        Map<String, String> expected = beanToMap(request);
+        for (String name : Arrays.asList("tags", "ids", "extra", "nested")) {
+            String placeholder = expected.remove(name);
+            assertEquals(name.equals("extra") || name.equals("nested") ? "{}" : "[]", placeholder);
+        }
+        assertEquals(expected, BeanFormCodec.encode(request));
+    }
+
+    enum Kind {
+        A, B
+    }
+
+    static class Base {
+
+        @SerializedName("item_id")
+        String itemId;
+    }
+
+    static class Request extends Base {
+
+        static final String IGNORED = "ignored";
+
+        String name;
+        int count;
+        Boolean enabled;
+        Kind kind;
+        Date createdAt;
+        List<String> tags;
+        long[] ids;
+        Map<String, Integer> extra;
+        Nested nested;
+        transient String secret;
+    }
+
+    static class Nested {
+
+        String value;
+    }
+
+    /**
+     * 替换前各平台InternalUtils中的实现
+     */
+    private static Map<String, String> beanToMap(Object bean) {
+        List<Field> fields = getAllField(bean.getClass());
+        Map<String, String> map = Maps.newHashMapWithExpectedSize(fields.size());
+        for (Field field : fields) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                continue;
+            }
+            field.setAccessible(true);
+
+            String name = "";
+            SerializedName annotation = field.getAnnotation(SerializedName.class);
+            if (annotation != null) {
+                name = annotation.value().trim();
+            }
+            if (StringUtils.isEmpty(name)) {
+                name = field.getName();
+            }
+
+            String value = null;
+            try {
+                Object fieldValue = field.get(bean);
+                if (fieldValue != null) {
+                    if (isSimpleType(field.getType())) {
+                        value = fieldValue.toString();
+                    } else {
+                        value = gson.toJson(fieldValue);
+                    }
+                } else if (!isSimpleType(field.getType())) {
+                    value = isCollectionOrArrayType(field.getType()) ? "[]" : "{}";
+                }
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            if (value != null) {
+                map.put(name, value);
+            }
+        }
+        return map;
+    }
+
+    private static List<Field> getAllField(Class<?> clazz) {
+        List<Field> fields = Lists.newArrayList();
+        Class<?> superclass = clazz.getSuperclass();
+        if (superclass != null && superclass != Object.class) {
+            fields.addAll(getAllField(superclass));
+        }
+        fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
+        return fields;
+    }
+
+    private static boolean isSimpleType(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum()) {
+            return true;
+        }
+        return Arrays.asList("java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long",
+                "java.lang.Float", "java.lang.Double", "java.lang.Boolean", "java.lang.Character",
+                "java.lang.String", "java.util.Date", "java.time.LocalDateTime", "java.time.LocalDate")
+                .contains(type.getCanonicalName());
+    }
+
+    private static boolean isCollectionOrArrayType(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || type.isArray();
+    }
+}
@@ -0,0 +1,56 @@
+package io.apidocx.base.sdk.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.apidocx.base.sdk.yapi.YapiClient;
+import io.apidocx.base.sdk.yapi.YapiException;
+import io.apidocx.stub.YapiStub;
+import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 通过{@link HttpTransport}默认客户端验证熔断
+ */
+class CircuitBreakerClientTest {
+
+    private YapiStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new YapiStub();
+        stub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void openAfterConsecutiveFailures() {
+        YapiClient client = new YapiClient(stub.getUrl(), "token");
+        stub.errorRate(1);
+        for (int i = 0; i < 5; i++) {
+            assertThrows(YapiException.class, () -> client.getCategories(1));
+        }
+        long sent = stub.getTotalRequests();
+        assertThrows(CircuitOpenException.class, () -> client.getCategories(1));
+        assertEquals(sent, stub.getTotalRequests());
+    }
+
+    @Test
+    void otherHostsUnaffected() throws IOException {
+        YapiClient client = new YapiClient(stub.getUrl(), "token");
+        stub.errorRate(1);
+        for (int i = 0; i < 5; i++) {
+            assertThrows(YapiException.class, () -> client.getCategories(1));
+        }
+        try (YapiStub other = new YapiStub()) {
+            other.start();
+            assertEquals(0, new YapiClient(other.getUrl(), "token").getCategories(1).size());
+        }
+    }
+}
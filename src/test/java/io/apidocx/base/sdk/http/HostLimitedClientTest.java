@@ -0,0 +1,84 @@
+package io.apidocx.base.sdk.http;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 主机许可在响应体关闭后释放
+ */
+class HostLimitedClientTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "http://localhost:8080/api",
+            Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+
+    private static final Options OPTIONS = new Options();
+
+    @Test
+    void permitHeldUntilBodyClosed() throws Exception {
+        HostLimitedClient client = new HostLimitedClient((request, options) -> response(request), 1);
+        Response first = client.execute(REQUEST, OPTIONS);
+        CompletableFuture<Response> second = CompletableFuture.supplyAsync(() -> execute(client));
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+
+        first.close();
+        second.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void closeTwiceReleasesOnce() throws Exception {
+        HostLimitedClient client = new HostLimitedClient((request, options) -> response(request), 1);
+        Response first = client.execute(REQUEST, OPTIONS);
+        first.close();
+        first.close();
+
+        Response second = client.execute(REQUEST, OPTIONS);
+        CompletableFuture<Response> third = CompletableFuture.supplyAsync(() -> execute(client));
+        assertThrows(TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+        second.close();
+        third.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void permitReleasedOnFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        HostLimitedClient client = new HostLimitedClient((request, options) -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IOException("Connection refused");
+            }
+            return response(request);
+        }, 1);
+        assertThrows(IOException.class, () -> client.execute(REQUEST, OPTIONS));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> client.execute(REQUEST, OPTIONS).close());
+    }
+
+    private static Response execute(HostLimitedClient client) {
+        try {
+            return client.execute(REQUEST, OPTIONS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Response response(Request request) {
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Collections.emptyMap())
+                .body("{}", StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package io.apidocx.base.sdk.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void empty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    /**
+     * 32以下每个值一个桶
+     */
+    @Test
+    void smallValuesAreExact() {
+        for (long value = 0; value < 32; value++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(1000);
+            assertEquals(value, histogram.getPercentile(50));
+        }
+    }
+
+    /**
+     * 百分位返回所在桶的上界, 相对误差不超过1/16
+     */
+    @Test
+    void bucketUpperBoundWithinOneSixteenth() {
+        long[] values = {32, 33, 47, 100, 1000, 65_535, 65_536, 1_000_000, 1L << 40, Long.MAX_VALUE / 8};
+        for (long value : values) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(value * 4);
+            long p50 = histogram.getPercentile(50);
+            assertTrue(p50 >= value && p50 <= value + value / 16, value + " -> " + p50);
+        }
+    }
+
+    @Test
+    void percentilesOfUniformValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_500, histogram.getTotal());
+        assertEquals(1000, histogram.getMax());
+        assertBetween(500, histogram.getPercentile(50));
+        assertBetween(900, histogram.getPercentile(90));
+        assertBetween(990, histogram.getPercentile(99));
+        assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    void negativeRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getTotal());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    private static void assertBetween(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16, expected + " -> " + actual);
+    }
+}
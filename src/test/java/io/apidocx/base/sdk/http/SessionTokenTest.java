@@ -0,0 +1,80 @@
+package io.apidocx.base.sdk.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SessionTokenTest {
+
+    @Test
+    void jwtExpiresAt() {
+        String jwt = jwt("{\"sub\":\"1\",\"exp\":1700000000}");
+        assertEquals(TimeUnit.SECONDS.toMillis(1700000000), SessionToken.jwtExpiresAt(jwt));
+        assertEquals(TimeUnit.SECONDS.toMillis(1700000000), SessionToken.jwtExpiresAt("Bearer " + jwt));
+    }
+
+    @Test
+    void jwtWithoutExpiry() {
+        assertEquals(0, SessionToken.jwtExpiresAt(null));
+        assertEquals(0, SessionToken.jwtExpiresAt(""));
+        assertEquals(0, SessionToken.jwtExpiresAt("_yapi_token=abc; _yapi_uid=11"));
+        assertEquals(0, SessionToken.jwtExpiresAt(jwt("{\"sub\":\"1\"}")));
+        assertEquals(0, SessionToken.jwtExpiresAt("a.not-base64!.c"));
+        assertEquals(0, SessionToken.jwtExpiresAt(jwt("[1,2]")));
+    }
+
+    @Test
+    void cookieExpiresAtEarliestMaxAge() {
+        long before = System.currentTimeMillis();
+        long expiresAt = SessionToken.cookieExpiresAt(Arrays.asList(
+                "a=1; Max-Age=3600; Path=/", "b=2; Max-Age=60; Path=/", "c=3; Path=/"));
+        assertTrue(expiresAt >= before + 60_000 && expiresAt <= System.currentTimeMillis() + 60_000);
+        assertEquals(0, SessionToken.cookieExpiresAt(Collections.singletonList("c=3; Path=/")));
+        assertEquals(0, SessionToken.cookieExpiresAt(null));
+    }
+
+    /**
+     * 即将过期的JWT提前重新登录
+     */
+    @Test
+    void refreshAheadOfExpiry() {
+        AtomicInteger logins = new AtomicInteger();
+        String expiring = jwt("{\"exp\":" + TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() + 30_000) + "}");
+        SessionToken[] session = new SessionToken[1];
+        session[0] = new SessionToken(expiring, () -> session[0].update("new-" + logins.incrementAndGet()));
+        assertEquals("new-1", session[0].get());
+        assertEquals("new-1", session[0].get());
+        assertEquals(1, logins.get());
+    }
+
+    /**
+     * 登录需要验证码时不提前刷新, 直到服务端拒绝
+     */
+    @Test
+    void keepExpiringTokenWithoutRefreshAhead() {
+        AtomicInteger logins = new AtomicInteger();
+        String expiring = jwt("{\"exp\":" + TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() + 30_000) + "}");
+        SessionToken[] session = new SessionToken[1];
+        session[0] = new SessionToken(expiring, () -> session[0].update("new-" + logins.incrementAndGet()), false);
+        assertEquals(expiring, session[0].get());
+        assertEquals(0, logins.get());
+
+        assertEquals("new-1", session[0].refresh(expiring));
+        // 其他线程持有的旧凭证不再触发登录
+        assertEquals("new-1", session[0].refresh(expiring));
+        assertEquals(1, logins.get());
+    }
+
+    private static String jwt(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+}
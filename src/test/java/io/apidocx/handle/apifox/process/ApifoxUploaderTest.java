@@ -0,0 +1,67 @@
+package io.apidocx.handle.apifox.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.apidocx.base.sdk.apifox.ApifoxClient;
+import io.apidocx.fixture.SyntheticApis;
+import io.apidocx.model.Api;
+import io.apidocx.stub.AbstractStubTest;
+import io.apidocx.stub.ApifoxStub;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ApifoxUploaderTest extends AbstractStubTest<ApifoxStub> {
+
+    private static final String LOGIN_ROUTE = "POST /api/v1/login";
+    private static final String CREATE_ROUTE = "POST /api/v1/api-details";
+    private static final String UPDATE_ROUTE = "PUT /api/v1/api-details/{id}";
+
+    private ApifoxUploader uploader;
+
+    @Override
+    protected ApifoxStub createStub() throws IOException {
+        return new ApifoxStub();
+    }
+
+    @BeforeEach
+    void setUp() {
+        uploader = new ApifoxUploader(new ApifoxClient(stub.getUrl(), "test@localhost", "test", null, 1L));
+    }
+
+    /**
+     * 再次上传时按原接口id更新, 不重复创建
+     */
+    @Test
+    void uploadThenUpdate() {
+        List<Api> apis = SyntheticApis.generate(3, 1);
+        apis.forEach(api -> uploader.upload(1L, api));
+        assertEquals(3, requests(CREATE_ROUTE));
+        assertEquals(0, requests(UPDATE_ROUTE));
+
+        apis.forEach(api -> uploader.upload(1L, api));
+        assertEquals(1, stub.getFolderCount());
+        assertEquals(3, stub.getApiCount());
+        assertEquals(3, requests(CREATE_ROUTE));
+        assertEquals(3, requests(UPDATE_ROUTE));
+    }
+
+    /**
+     * 401后并发上传只重新登录一次
+     */
+    @Test
+    void reloginOnceAfterSessionsExpire() {
+        List<Api> apis = SyntheticApis.generate(16, 1);
+        uploader.upload(1L, apis.get(0));
+        stub.expireSessions();
+        List<CompletableFuture<?>> futures = apis.stream()
+                .map(api -> uploader.uploadAsync(1L, api))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        assertEquals(2, requests(LOGIN_ROUTE));
+        assertEquals(16, stub.getApiCount());
+    }
+}
@@ -0,0 +1,49 @@
+package io.apidocx.handle.eolink.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.apidocx.base.sdk.eolink.EolinkClient;
+import io.apidocx.fixture.SyntheticApis;
+import io.apidocx.model.Api;
+import io.apidocx.stub.AbstractStubTest;
+import io.apidocx.stub.EolinkStub;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EolinkUploaderTest extends AbstractStubTest<EolinkStub> {
+
+    private static final String CREATE_ROUTE = "POST /api/apiManagementPro/Api/addApi";
+    private static final String UPDATE_ROUTE = "POST /api/apiManagementPro/Api/editApi";
+
+    private EolinkUploader uploader;
+
+    @Override
+    protected EolinkStub createStub() throws IOException {
+        return new EolinkStub();
+    }
+
+    @BeforeEach
+    void setUp() {
+        uploader = new EolinkUploader(new EolinkClient(stub.getUrl(), stub.getUrl(), "test@localhost", "test",
+                null));
+    }
+
+    /**
+     * 再次上传时按原接口id更新, 不重复创建
+     */
+    @Test
+    void uploadThenUpdate() {
+        List<Api> apis = SyntheticApis.generate(3, 1);
+        apis.forEach(api -> uploader.upload("project", api));
+        assertEquals(3, requests(CREATE_ROUTE));
+        assertEquals(0, requests(UPDATE_ROUTE));
+
+        apis.forEach(api -> uploader.upload("project", api));
+        assertEquals(1, stub.getGroupCount());
+        assertEquals(3, stub.getApiCount());
+        assertEquals(3, requests(CREATE_ROUTE));
+        assertEquals(3, requests(UPDATE_ROUTE));
+    }
+}
@@ -0,0 +1,72 @@
+package io.apidocx.handle.rap2.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.apidocx.base.sdk.rap2.Rap2Client;
+import io.apidocx.fixture.SyntheticApis;
+import io.apidocx.model.Api;
+import io.apidocx.stub.AbstractStubTest;
+import io.apidocx.stub.Rap2Stub;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class Rap2UploaderTest extends AbstractStubTest<Rap2Stub> {
+
+    private static final String UPDATE_ROUTE = "POST /interface/update";
+    private static final String PROPERTIES_ROUTE = "POST /properties/update";
+
+    private Rap2Uploader uploader;
+
+    @Override
+    protected Rap2Stub createStub() throws IOException {
+        return new Rap2Stub();
+    }
+
+    @BeforeEach
+    void setUp() {
+        uploader = new Rap2Uploader(new Rap2Client(stub.getUrl(), "test@localhost", "test", null, null));
+    }
+
+    /**
+     * 未变更的接口不再更新基本信息和参数
+     */
+    @Test
+    void uploadUnchanged() {
+        List<Api> apis = SyntheticApis.generate(3, 1);
+        apis.forEach(api -> uploader.upload(1L, api));
+        apis.forEach(api -> uploader.upload(1L, api));
+        assertEquals(1, stub.getModuleCount());
+        assertEquals(3, stub.getInterfaceCount());
+        assertEquals(0, requests(UPDATE_ROUTE));
+        assertEquals(3, requests(PROPERTIES_ROUTE));
+    }
+
+    /**
+     * 只更新变更的接口
+     */
+    @Test
+    void uploadChanged() {
+        List<Api> apis = SyntheticApis.generate(3, 1);
+        apis.forEach(api -> uploader.upload(1L, api));
+        apis.get(0).getParameters().get(0).setDescription("修改后的主键");
+        apis.forEach(api -> uploader.upload(1L, api));
+        assertEquals(3, stub.getInterfaceCount());
+        assertEquals(1, requests(UPDATE_ROUTE));
+        assertEquals(4, requests(PROPERTIES_ROUTE));
+    }
+
+    /**
+     * 需要验证码的客户端不提前刷新, 会话失效被拒绝后才重新登录
+     */
+    @Test
+    void reloginAfterRejected() {
+        List<Api> apis = SyntheticApis.generate(2, 1);
+        uploader.upload(1L, apis.get(0));
+        stub.expireSessions();
+        uploader.upload(1L, apis.get(1));
+        assertEquals(2, requests("POST /account/login"));
+        assertEquals(2, stub.getInterfaceCount());
+    }
+}
@@ -0,0 +1,46 @@
+package io.apidocx.handle.showdoc.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.apidocx.base.sdk.showdoc.ShowdocClient;
+import io.apidocx.fixture.SyntheticApis;
+import io.apidocx.model.Api;
+import io.apidocx.stub.AbstractStubTest;
+import io.apidocx.stub.ShowdocStub;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShowdocUploaderTest extends AbstractStubTest<ShowdocStub> {
+
+    private ShowdocUploader uploader;
+
+    @Override
+    protected ShowdocStub createStub() throws IOException {
+        return new ShowdocStub();
+    }
+
+    @BeforeEach
+    void setUp() {
+        uploader = new ShowdocUploader(new ShowdocClient(stub.getUrl(), "test@localhost", "test"));
+    }
+
+    /**
+     * 再次上传时覆盖同名页面的内容
+     */
+    @Test
+    void uploadThenUpdate() {
+        List<Api> apis = SyntheticApis.generate(3, 1);
+        apis.forEach(api -> uploader.upload("1", api));
+        String title = apis.get(0).getSummary();
+        assertFalse(stub.getPageContent(title).contains("修改后的主键"));
+
+        apis.get(0).getParameters().get(0).setDescription("修改后的主键");
+        apis.forEach(api -> uploader.upload("1", api));
+        assertEquals(3, stub.getPageCount());
+        assertTrue(stub.getPageContent(title).contains("修改后的主键"));
+    }
+}
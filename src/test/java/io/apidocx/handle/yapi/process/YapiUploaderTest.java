@@ -0,0 +1,78 @@
+package io.apidocx.handle.yapi.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.apidocx.base.sdk.yapi.YapiClient;
+import io.apidocx.base.sdk.yapi.model.LoginWay;
+import io.apidocx.fixture.SyntheticApis;
+import io.apidocx.model.Api;
+import io.apidocx.stub.AbstractStubTest;
+import io.apidocx.stub.YapiStub;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class YapiUploaderTest extends AbstractStubTest<YapiStub> {
+
+    private static final String LOGIN_ROUTE = "POST /api/user/login";
+    private static final String UPDATE_ROUTE = "POST /api/interface/up";
+
+    private YapiUploader uploader;
+
+    @Override
+    protected YapiStub createStub() throws IOException {
+        return new YapiStub();
+    }
+
+    @BeforeEach
+    void setUp() {
+        uploader = new YapiUploader(new YapiClient(stub.getUrl(), "test@localhost", "test", LoginWay.DEFAULT, null));
+    }
+
+    /**
+     * 未变更的接口不再更新
+     */
+    @Test
+    void uploadUnchanged() {
+        List<Api> apis = SyntheticApis.generate(3, 1);
+        apis.forEach(api -> uploader.upload(1, api));
+        apis.forEach(api -> uploader.upload(1, api));
+        assertEquals(1, stub.getCategoryCount());
+        assertEquals(3, stub.getInterfaceCount());
+        assertEquals(0, requests(UPDATE_ROUTE));
+    }
+
+    /**
+     * 只更新变更的接口
+     */
+    @Test
+    void uploadChanged() {
+        List<Api> apis = SyntheticApis.generate(3, 1);
+        apis.forEach(api -> uploader.upload(1, api));
+        apis.get(0).getParameters().get(0).setDescription("修改后的主键");
+        apis.forEach(api -> uploader.upload(1, api));
+        assertEquals(3, stub.getInterfaceCount());
+        assertEquals(1, requests(UPDATE_ROUTE));
+    }
+
+    /**
+     * 会话失效后并发上传只重新登录一次
+     */
+    @Test
+    void reloginOnceAfterSessionsExpire() {
+        List<Api> apis = SyntheticApis.generate(16, 1);
+        uploader.upload(1, apis.get(0));
+        assertEquals(1, requests(LOGIN_ROUTE));
+
+        stub.expireSessions();
+        List<CompletableFuture<?>> futures = apis.stream()
+                .map(api -> uploader.uploadAsync(1, api))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        assertEquals(2, requests(LOGIN_ROUTE));
+        assertEquals(16, stub.getInterfaceCount());
+    }
+}
@@ -0,0 +1,87 @@
+package io.apidocx.parse.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.apidocx.config.MockRule;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MockRuleTableTest {
+
+    private final List<MockRule> rules = Arrays.asList(
+            rule("string", ".*email.*", "@email"),
+            rule("string", ".*name", "@cname"),
+            rule("string,integer", ".*id", "@id"),
+            rule("integer", "age|count", "@integer(1, 100)"),
+            rule("string", "(a)\\1.*", "@repeat"),
+            rule("string", ".*", "@string"));
+
+    /**
+     * 与按顺序执行MockRule#match的结果一致
+     */
+    @Test
+    void sameAsSequentialMatch() {
+        MockRuleTable table = MockRuleTable.of(rules);
+        for (String type : Arrays.asList("string", "integer", "boolean")) {
+            for (String field : Arrays.asList("email", "userEmail", "nickName", "NAME", "userId", "age", "count",
+                    "aab", "aac", "other")) {
+                assertEquals(sequentialMatch(type, field), table.match(type, field), type + " " + field);
+            }
+        }
+    }
+
+    @Test
+    void firstRuleWins() {
+        MockRuleTable table = MockRuleTable.of(rules);
+        assertEquals("@email", table.match("string", "emailName"));
+        assertEquals("@cname", table.match("string", "userName"));
+        assertEquals("@id", table.match("integer", "userId"));
+        assertNull(table.match("integer", "other"));
+        assertNull(table.match("boolean", "userId"));
+    }
+
+    /**
+     * 含反向引用的规则不合并, 按顺序逐条匹配
+     */
+    @Test
+    void backReferenceFallsBackToSequentialMatch() {
+        MockRuleTable table = MockRuleTable.of(rules);
+        assertEquals("@repeat", table.match("string", "aab"));
+        assertEquals("@string", table.match("string", "abb"));
+    }
+
+    @Test
+    void emptyAndInvalidInput() {
+        assertNull(MockRuleTable.of(null).match("string", "name"));
+        assertNull(MockRuleTable.of(Collections.emptyList()).match("string", "name"));
+        MockRuleTable table = MockRuleTable.of(rules);
+        assertNull(table.match(null, "name"));
+        assertNull(table.match("string", ""));
+    }
+
+    @Test
+    void cachedPerRuleList() {
+        assertSame(MockRuleTable.of(rules), MockRuleTable.of(rules));
+    }
+
+    private String sequentialMatch(String type, String field) {
+        for (MockRule rule : rules) {
+            if (rule.match(type, field)) {
+                return rule.getMock();
+            }
+        }
+        return null;
+    }
+
+    private static MockRule rule(String type, String match, String mock) {
+        MockRule rule = new MockRule();
+        rule.setType(type);
+        rule.setMatch(match);
+        rule.setMock(mock);
+        return rule;
+    }
+}
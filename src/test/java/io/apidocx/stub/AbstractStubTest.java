@@ -0,0 +1,33 @@
+package io.apidocx.stub;
+
+import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * 基于服务替身的测试基类: 每个测试启动一个替身, 结束后关闭
+ */
+public abstract class AbstractStubTest<S extends StubServer> {
+
+    protected S stub;
+
+    @BeforeEach
+    protected void startStub() throws IOException {
+        stub = createStub();
+        stub.start();
+    }
+
+    @AfterEach
+    protected void closeStub() {
+        stub.close();
+    }
+
+    protected abstract S createStub() throws IOException;
+
+    /**
+     * 路由的请求数
+     */
+    protected long requests(String route) {
+        return stub.getRequestCounts().getOrDefault(route, 0L);
+    }
+}
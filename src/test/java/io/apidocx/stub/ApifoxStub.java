@@ -0,0 +1,183 @@
+package io.apidocx.stub;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Apifox服务替身, 覆盖ApifoxApi使用的接口
+ */
+public class ApifoxStub extends StubServer {
+
+    private static final String DETAILS_PATH = "/api/v1/api-details";
+
+    /**
+     * 目录id -> 目录
+     */
+    private final Map<Long, JsonObject> folders = new ConcurrentHashMap<>();
+
+    /**
+     * 接口id -> 接口详情
+     */
+    private final Map<Long, JsonObject> details = new ConcurrentHashMap<>();
+
+    public ApifoxStub() throws IOException {
+        super("apifox");
+        route("POST", "/api/v1/login", this::login);
+        route("GET", "/api/v1/current-user", auth(exchange -> ok(new JsonObject())));
+        route("GET", "/api/v1/api-tree-list", auth(this::getApiTree));
+        route("GET", "/api/v1/api-detail-folders", auth(this::getFolders));
+        route("POST", "/api/v1/api-detail-folders", auth(this::createFolder));
+        route("POST", DETAILS_PATH, auth(this::createDetail));
+        route("GET", DETAILS_PATH + "/{id}", auth(this::getDetail));
+        route("PUT", DETAILS_PATH + "/{id}", auth(this::updateDetail));
+    }
+
+    public int getFolderCount() {
+        return folders.size();
+    }
+
+    public int getApiCount() {
+        return details.size();
+    }
+
+    @Override
+    protected String routeKey(Exchange exchange) {
+        String path = exchange.getPath();
+        if (path.startsWith(DETAILS_PATH + "/")) {
+            return DETAILS_PATH + "/{id}";
+        }
+        return path;
+    }
+
+    private Object login(Exchange exchange) {
+        JsonObject data = new JsonObject();
+        data.addProperty("accessToken", issueSession());
+        data.addProperty("userId", 1);
+        return ok(data);
+    }
+
+    private Object getApiTree(Exchange exchange) {
+        return ok(treeOf(0L));
+    }
+
+    private JsonArray treeOf(Long parentId) {
+        JsonArray items = new JsonArray();
+        folders.values().stream()
+                .filter(folder -> folder.get("parentId").getAsLong() == parentId)
+                .forEach(folder -> {
+                    long id = folder.get("id").getAsLong();
+                    JsonObject folderInfo = new JsonObject();
+                    folderInfo.addProperty("id", id);
+                    folderInfo.addProperty("parentId", parentId);
+                    JsonObject item = new JsonObject();
+                    item.addProperty("key", "apiDetailFolder." + id);
+                    item.add("name", folder.get("name"));
+                    item.addProperty("type", "apiDetailFolder");
+                    item.add("folder", folderInfo);
+                    item.add("children", treeOf(id));
+                    items.add(item);
+                });
+        details.values().stream()
+                .filter(detail -> Objects.equals(longValue(detail.get("folderId")), parentId))
+                .forEach(detail -> {
+                    JsonObject api = new JsonObject();
+                    for (String key : new String[]{"id", "folderId", "name", "method", "path", "status"}) {
+                        api.add(key, detail.get(key));
+                    }
+                    JsonObject item = new JsonObject();
+                    item.addProperty("key", "apiDetail." + detail.get("id").getAsLong());
+                    item.add("name", detail.get("name"));
+                    item.addProperty("type", "apiDetail");
+                    item.add("api", api);
+                    items.add(item);
+                });
+        return items;
+    }
+
+    private Object getFolders(Exchange exchange) {
+        JsonArray array = new JsonArray();
+        folders.values().forEach(array::add);
+        return ok(array);
+    }
+
+    private Object createFolder(Exchange exchange) {
+        JsonObject folder = exchange.json();
+        long id = nextId();
+        folder.addProperty("id", id);
+        if (folder.get("parentId") == null || folder.get("parentId").isJsonNull()) {
+            folder.addProperty("parentId", 0);
+        }
+        folders.put(id, folder);
+        return ok(folder);
+    }
+
+    private Object createDetail(Exchange exchange) {
+        JsonObject detail = exchange.formAsJson();
+        long id = nextId();
+        detail.addProperty("id", id);
+        details.put(id, detail);
+        return ok(detail);
+    }
+
+    private Object getDetail(Exchange exchange) {
+        JsonObject detail = details.get(pathId(exchange));
+        return detail != null ? ok(detail) : notFound();
+    }
+
+    private Object updateDetail(Exchange exchange) {
+        long id = pathId(exchange);
+        if (!details.containsKey(id)) {
+            return notFound();
+        }
+        JsonObject detail = exchange.formAsJson();
+        detail.addProperty("id", id);
+        details.put(id, detail);
+        return ok(new JsonObject());
+    }
+
+    private Handler auth(Handler handler) {
+        return exchange -> {
+            if (isValidSession(exchange.header("Authorization"))) {
+                return handler.handle(exchange);
+            }
+            exchange.send(401, gson.toJson(error("401000", "未登录")));
+            return null;
+        };
+    }
+
+    private static long pathId(Exchange exchange) {
+        String path = exchange.getPath();
+        return Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+    }
+
+    private static Long longValue(JsonElement element) {
+        if (element == null || element.isJsonNull() || element.getAsString().isEmpty()) {
+            return 0L;
+        }
+        return element.getAsLong();
+    }
+
+    private static JsonObject ok(Object data) {
+        JsonObject response = new JsonObject();
+        response.addProperty("success", true);
+        response.add("data", gson.toJsonTree(data));
+        return response;
+    }
+
+    private static JsonObject notFound() {
+        return error("404000", "接口不存在");
+    }
+
+    private static JsonObject error(String code, String message) {
+        JsonObject response = new JsonObject();
+        response.addProperty("success", false);
+        response.addProperty("errorCode", code);
+        response.addProperty("errorMessage", message);
+        return response;
+    }
+}
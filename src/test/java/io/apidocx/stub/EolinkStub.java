@@ -0,0 +1,181 @@
+package io.apidocx.stub;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Eolink服务替身, 覆盖EolinkApi使用的接口.
+ * 带请求体的GET请求会被HttpURLConnection转为POST, 因此查询类接口不限制请求方法.
+ */
+public class EolinkStub extends StubServer {
+
+    /**
+     * 接口基本信息字段, 其余字段属于接口详情
+     */
+    private static final Set<String> BASE_FIELDS = ImmutableSet.of("apiID", "groupID", "apiName", "apiRequestType",
+            "apiURI", "apiProtocol", "apiStatus", "apiTag", "apiRequestParamType", "apiRequestRaw",
+            "apiRequestParamJsonType", "apiNoteType", "apiNoteRaw", "apiNote", "groupName", "apiManagerConnID");
+
+    /**
+     * 保存请求字段 -> 接口详情字段
+     */
+    private static final Map<String, String> INFO_FIELDS = ImmutableMap.<String, String>builder()
+            .put("apiHeader", "headerInfo")
+            .put("apiUrlParam", "urlParam")
+            .put("apiRestfulParam", "restfulParam")
+            .put("apiRequestParam", "requestInfo")
+            .put("apiResultParam", "resultInfo")
+            .put("responseHeader", "responseHeader")
+            .put("resultParamType", "resultParamType")
+            .put("resultParamJsonType", "resultParamJsonType")
+            .put("tagID", "tagID")
+            .put("apiType", "apiType")
+            .build();
+
+    /**
+     * 分组id -> 分组
+     */
+    private final Map<Long, JsonObject> groups = new ConcurrentHashMap<>();
+
+    /**
+     * 接口id -> 接口详情
+     */
+    private final Map<Long, JsonObject> apis = new ConcurrentHashMap<>();
+
+    public EolinkStub() throws IOException {
+        super("eolink");
+        route("POST", "/userCenter/common/sso/login", this::login);
+        route("*", "/api/common/User/getUserInfo", auth(this::getUserInfo));
+        route("POST", "/api/generalFunction/Group/addGroup", auth(this::addGroup));
+        route("*", "/api/apiManagementPro/ApiGroup/getApiGroupData", auth(this::getGroups));
+        route("*", "/api/apiManagementPro/Api/getApiListByCondition", auth(this::getApiList));
+        route("*", "/api/apiManagementPro/Api/getApi", auth(this::getApi));
+        route("POST", "/api/apiManagementPro/Api/addApi", auth(this::saveApi));
+        route("POST", "/api/apiManagementPro/Api/editApi", auth(this::saveApi));
+    }
+
+    public int getGroupCount() {
+        return groups.size();
+    }
+
+    public int getApiCount() {
+        return apis.size();
+    }
+
+    private Object login(Exchange exchange) {
+        JsonObject data = new JsonObject();
+        data.addProperty("jwt", issueSession());
+        JsonObject response = new JsonObject();
+        response.addProperty("code", 0);
+        response.add("data", data);
+        return response;
+    }
+
+    private Object getUserInfo(Exchange exchange) {
+        JsonObject userInfo = new JsonObject();
+        userInfo.addProperty("spaceKey", "stub");
+        JsonObject response = ok();
+        response.add("userInfo", userInfo);
+        return response;
+    }
+
+    private Object addGroup(Exchange exchange) {
+        Map<String, String> form = exchange.form();
+        long id = nextId();
+        JsonObject group = new JsonObject();
+        group.addProperty("groupID", id);
+        group.addProperty("parentGroupID", Long.parseLong(form.getOrDefault("parentGroupID", "0")));
+        group.addProperty("groupName", form.get("groupName"));
+        group.addProperty("groupDepth", 1);
+        groups.put(id, group);
+        JsonObject response = ok();
+        response.addProperty("groupID", id);
+        return response;
+    }
+
+    private Object getGroups(Exchange exchange) {
+        JsonArray array = new JsonArray();
+        groups.values().forEach(array::add);
+        JsonObject response = ok();
+        response.add("apiGroupData", array);
+        return response;
+    }
+
+    private Object getApiList(Exchange exchange) {
+        String groupId = exchange.form().get("groupID");
+        JsonArray array = new JsonArray();
+        apis.values().stream()
+                .map(api -> api.getAsJsonObject("baseInfo"))
+                .filter(base -> Objects.equals(base.get("groupID").getAsString(), groupId))
+                .forEach(array::add);
+        JsonObject response = ok();
+        response.add("apiList", array);
+        return response;
+    }
+
+    private Object getApi(Exchange exchange) {
+        JsonObject api = apis.get(Long.parseLong(exchange.form().get("apiID")));
+        if (api == null) {
+            return error("140000");
+        }
+        JsonObject response = ok();
+        response.add("apiInfo", api);
+        return response;
+    }
+
+    private Object saveApi(Exchange exchange) {
+        JsonObject request = exchange.formAsJson();
+        JsonElement apiId = request.get("apiID");
+        long id;
+        if (apiId == null || apiId.getAsString().isEmpty()) {
+            id = nextId();
+        } else {
+            id = apiId.getAsLong();
+            if (!apis.containsKey(id)) {
+                return error("140000");
+            }
+        }
+        JsonObject baseInfo = new JsonObject();
+        JsonObject apiInfo = new JsonObject();
+        for (Map.Entry<String, JsonElement> entry : request.entrySet()) {
+            if (BASE_FIELDS.contains(entry.getKey())) {
+                baseInfo.add(entry.getKey(), entry.getValue());
+            } else if (INFO_FIELDS.containsKey(entry.getKey())) {
+                apiInfo.add(INFO_FIELDS.get(entry.getKey()), entry.getValue());
+            }
+        }
+        baseInfo.addProperty("apiID", id);
+        apiInfo.add("baseInfo", baseInfo);
+        apis.put(id, apiInfo);
+
+        JsonObject response = ok();
+        response.addProperty("apiID", id);
+        response.add("groupID", baseInfo.get("groupID"));
+        return response;
+    }
+
+    private Handler auth(Handler handler) {
+        return exchange -> isValidSession(exchange.header("Authorization"))
+                ? handler.handle(exchange) : error("200001");
+    }
+
+    private static JsonObject ok() {
+        JsonObject response = new JsonObject();
+        response.addProperty("statusCode", "000000");
+        return response;
+    }
+
+    private static JsonObject error(String statusCode) {
+        JsonObject response = new JsonObject();
+        response.addProperty("statusCode", statusCode);
+        return response;
+    }
+}
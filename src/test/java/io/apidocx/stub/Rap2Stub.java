@@ -0,0 +1,159 @@
+package io.apidocx.stub;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rap2服务替身, 覆盖Rap2Api使用的接口
+ */
+public class Rap2Stub extends StubServer {
+
+    private static final String COOKIE = "koa.sid";
+
+    /**
+     * 模块id -> 模块(不含接口)
+     */
+    private final Map<Long, JsonObject> modules = new ConcurrentHashMap<>();
+
+    /**
+     * 接口id -> 接口(不含参数)
+     */
+    private final Map<Long, JsonObject> interfaces = new ConcurrentHashMap<>();
+
+    /**
+     * 接口id -> 参数
+     */
+    private final Map<Long, JsonArray> properties = new ConcurrentHashMap<>();
+
+    public Rap2Stub() throws IOException {
+        super("rap2");
+        route("GET", "/captcha", exchange -> "<svg/>");
+        route("POST", "/account/login", this::login);
+        route("GET", "/account/info", auth(exchange -> ok(user())));
+        route("GET", "/repository/get", auth(this::getRepository));
+        route("POST", "/module/create", auth(this::createModule));
+        route("GET", "/interface/get", auth(this::getInterface));
+        route("POST", "/interface/create", auth(this::createInterface));
+        route("POST", "/interface/update", auth(this::updateInterface));
+        route("POST", "/properties/update", auth(this::updateProperties));
+    }
+
+    public int getModuleCount() {
+        return modules.size();
+    }
+
+    public int getInterfaceCount() {
+        return interfaces.size();
+    }
+
+    private Object login(Exchange exchange) {
+        exchange.setCookie(COOKIE, issueSession(), 24 * 3600);
+        return ok(user());
+    }
+
+    private Object getRepository(Exchange exchange) {
+        long repositoryId = Long.parseLong(exchange.query("id"));
+        JsonArray moduleArray = new JsonArray();
+        modules.values().stream()
+                .filter(module -> module.get("repositoryId").getAsLong() == repositoryId)
+                .forEach(module -> {
+                    JsonObject copy = module.deepCopy();
+                    JsonArray interfaceArray = new JsonArray();
+                    interfaces.values().stream()
+                            .filter(itf -> itf.get("moduleId").getAsLong() == module.get("id").getAsLong())
+                            .forEach(interfaceArray::add);
+                    copy.add("interfaces", interfaceArray);
+                    moduleArray.add(copy);
+                });
+        JsonObject repository = new JsonObject();
+        repository.addProperty("id", repositoryId);
+        repository.addProperty("name", "repository-" + repositoryId);
+        repository.add("modules", moduleArray);
+        return ok(repository);
+    }
+
+    private Object createModule(Exchange exchange) {
+        JsonObject module = exchange.json();
+        long id = nextId();
+        module.addProperty("id", id);
+        modules.put(id, module);
+        return ok(module);
+    }
+
+    private Object getInterface(Exchange exchange) {
+        long id = Long.parseLong(exchange.query("id"));
+        JsonObject itf = interfaces.get(id);
+        if (itf == null) {
+            return error("接口不存在");
+        }
+        JsonObject copy = itf.deepCopy();
+        copy.add("properties", properties.getOrDefault(id, new JsonArray()));
+        return ok(copy);
+    }
+
+    private Object createInterface(Exchange exchange) {
+        JsonObject itf = exchange.json();
+        itf.remove("properties");
+        itf.remove("requestProperties");
+        itf.remove("responseProperties");
+        long id = nextId();
+        itf.addProperty("id", id);
+        interfaces.put(id, itf);
+        JsonObject data = new JsonObject();
+        data.add("itf", itf);
+        return ok(data);
+    }
+
+    private Object updateInterface(Exchange exchange) {
+        JsonObject request = exchange.json();
+        JsonObject itf = interfaces.get(request.get("id").getAsLong());
+        if (itf == null) {
+            return error("接口不存在");
+        }
+        synchronized (itf) {
+            for (Map.Entry<String, JsonElement> entry : request.entrySet()) {
+                itf.add(entry.getKey(), entry.getValue());
+            }
+        }
+        return ok(itf);
+    }
+
+    private Object updateProperties(Exchange exchange) {
+        long id = Long.parseLong(exchange.query("itf"));
+        JsonObject itf = interfaces.get(id);
+        if (itf == null) {
+            return error("接口不存在");
+        }
+        JsonElement request = exchange.json().get("properties");
+        properties.put(id, request != null && request.isJsonArray() ? request.getAsJsonArray() : new JsonArray());
+        return ok(itf);
+    }
+
+    private Handler auth(Handler handler) {
+        return exchange -> isValidSession(exchange.cookie(COOKIE)) ? handler.handle(exchange) : error("没有访问权限");
+    }
+
+    private static JsonObject user() {
+        JsonObject user = new JsonObject();
+        user.addProperty("id", 1);
+        user.addProperty("fullname", "stub");
+        user.addProperty("email", "stub@localhost");
+        return user;
+    }
+
+    private static JsonObject ok(Object data) {
+        JsonObject response = new JsonObject();
+        response.add("data", gson.toJsonTree(data));
+        return response;
+    }
+
+    private static JsonObject error(String message) {
+        JsonObject response = new JsonObject();
+        response.addProperty("errMsg", message);
+        return response;
+    }
+}
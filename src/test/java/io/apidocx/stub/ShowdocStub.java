@@ -0,0 +1,113 @@
+package io.apidocx.stub;
+
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ShowDoc服务替身, 覆盖ShowdocApi使用的接口.
+ * 所有请求都发往/server/index.php, 以查询参数s区分接口.
+ */
+public class ShowdocStub extends StubServer {
+
+    private static final String COOKIE = "PHPSESSID";
+
+    /**
+     * 项目id -> 项目令牌
+     */
+    private final Map<String, JsonObject> itemTokens = new ConcurrentHashMap<>();
+
+    /**
+     * api_key + 目录 + 标题 -> 页面
+     */
+    private final Map<String, JsonObject> pages = new ConcurrentHashMap<>();
+
+    public ShowdocStub() throws IOException {
+        super("showdoc");
+        route("GET", "/api/common/verify", exchange -> "");
+        route("POST", "/api/user/login", this::login);
+        route("GET", "/api/user/info", auth(exchange -> ok(new JsonObject())));
+        route("POST", "/api/item/getKey", auth(this::getKey));
+        route("POST", "/api/item/updateByApi", this::updateByApi);
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * 按标题获取页面内容, 不存在时返回null
+     */
+    public String getPageContent(String title) {
+        return pages.values().stream()
+                .filter(page -> title.equals(page.get("page_title").getAsString()))
+                .map(page -> page.get("page_content").getAsString())
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    protected String routeKey(Exchange exchange) {
+        String s = exchange.query("s");
+        return s != null ? s : exchange.getPath();
+    }
+
+    private Object login(Exchange exchange) {
+        exchange.setCookie(COOKIE, issueSession(), 30 * 24 * 3600);
+        return ok(new JsonObject());
+    }
+
+    private Object getKey(Exchange exchange) {
+        String itemId = exchange.form().get("item_id");
+        JsonObject token = itemTokens.computeIfAbsent(itemId, key -> {
+            JsonObject value = new JsonObject();
+            value.addProperty("api_key", "key-" + key);
+            value.addProperty("api_token", issueSession());
+            return value;
+        });
+        return ok(token);
+    }
+
+    private Object updateByApi(Exchange exchange) {
+        Map<String, String> form = exchange.form();
+        String apiKey = form.get("api_key");
+        String itemId = apiKey != null && apiKey.startsWith("key-") ? apiKey.substring(4) : null;
+        JsonObject token = itemId != null ? itemTokens.get(itemId) : null;
+        if (token == null || !token.get("api_token").getAsString().equals(form.get("api_token"))) {
+            return error(10306, "api_key或api_token不匹配");
+        }
+        String key = apiKey + '\n' + form.get("cat_name") + '\n' + form.get("page_title");
+        JsonObject page = pages.computeIfAbsent(key, k -> {
+            JsonObject value = new JsonObject();
+            value.addProperty("page_id", String.valueOf(nextId()));
+            value.addProperty("item_id", itemId);
+            value.addProperty("cat_id", "0");
+            return value;
+        });
+        synchronized (page) {
+            page.addProperty("page_title", form.get("page_title"));
+            page.addProperty("page_content", form.get("page_content"));
+            page.addProperty("addtime", String.valueOf(System.currentTimeMillis() / 1000));
+            return ok(page.deepCopy());
+        }
+    }
+
+    private Handler auth(Handler handler) {
+        return exchange -> isValidSession(exchange.cookie(COOKIE)) ? handler.handle(exchange) : error(10102, "你尚未登录");
+    }
+
+    private static JsonObject ok(Object data) {
+        JsonObject response = new JsonObject();
+        response.addProperty("error_code", 0);
+        response.add("data", gson.toJsonTree(data));
+        return response;
+    }
+
+    private static JsonObject error(int code, String message) {
+        JsonObject response = new JsonObject();
+        response.addProperty("error_code", code);
+        response.addProperty("error_message", message);
+        return response;
+    }
+}
@@ -0,0 +1,343 @@
+package io.apidocx.stub;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 平台服务替身基类: 基于JDK内置HttpServer, 监听本机随机端口.
+ * <ul>
+ *     <li>路由: 按"请求方法 路径"匹配, 方法为"*"时匹配任意方法</li>
+ *     <li>会话: 登录时签发凭证, 可通过{@link #expireSessions()}让已签发的凭证全部失效</li>
+ *     <li>延迟: 每个请求固定延迟加随机抖动</li>
+ *     <li>故障: 按比例返回503</li>
+ *     <li>统计: 按路由记录请求数</li>
+ * </ul>
+ */
+public abstract class StubServer implements AutoCloseable {
+
+    protected static final Gson gson = new Gson();
+
+    private final String name;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Handler> routes = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong ids = new AtomicLong(1000);
+
+    private volatile long latencyMillis;
+    private volatile long jitterMillis;
+    private volatile double errorRate;
+
+    protected StubServer(String name) throws IOException {
+        this.name = name;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, name + "-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::dispatch);
+    }
+
+    public StubServer start() {
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 每个请求的延迟: 固定延迟 + [0, jitter)随机抖动
+     */
+    public StubServer latency(long millis, long jitterMillis) {
+        this.latencyMillis = millis;
+        this.jitterMillis = jitterMillis;
+        return this;
+    }
+
+    /**
+     * 返回503的请求比例
+     */
+    public StubServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * 使所有已签发的凭证失效
+     */
+    public void expireSessions() {
+        sessions.clear();
+    }
+
+    /**
+     * 路由 -> 请求数
+     */
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        requestCounts.forEach((route, count) -> counts.put(route, count.get()));
+        return counts;
+    }
+
+    public long getTotalRequests() {
+        return requestCounts.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    /**
+     * 注册路由
+     */
+    protected void route(String method, String path, Handler handler) {
+        routes.put(method + " " + path, handler);
+    }
+
+    /**
+     * 路由键, 子类可按查询参数等细分
+     */
+    protected String routeKey(Exchange exchange) {
+        return exchange.getPath();
+    }
+
+    protected long nextId() {
+        return ids.incrementAndGet();
+    }
+
+    /**
+     * 签发凭证
+     */
+    protected String issueSession() {
+        String token = UUID.randomUUID().toString().replace("-", "");
+        sessions.add(token);
+        return token;
+    }
+
+    protected boolean isValidSession(String token) {
+        return token != null && sessions.contains(token);
+    }
+
+    private void dispatch(HttpExchange http) throws IOException {
+        try {
+            Exchange exchange = new Exchange(http);
+            String path = routeKey(exchange);
+            String route = http.getRequestMethod() + " " + path;
+            Handler handler = routes.get(route);
+            if (handler == null) {
+                route = "* " + path;
+                handler = routes.get(route);
+            }
+            requestCounts.computeIfAbsent(handler != null ? route : "unknown", key -> new AtomicLong())
+                    .incrementAndGet();
+            delay();
+            if (handler == null) {
+                exchange.send(404, "{}");
+                return;
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                exchange.send(503, "{}");
+                return;
+            }
+            Object result = handler.handle(exchange);
+            if (!exchange.sent) {
+                exchange.send(200, result instanceof String ? (String) result : gson.toJson(result));
+            }
+        } catch (RuntimeException e) {
+            byte[] bytes = String.valueOf(e).getBytes(StandardCharsets.UTF_8);
+            http.sendResponseHeaders(500, bytes.length);
+            http.getResponseBody().write(bytes);
+        } finally {
+            http.close();
+        }
+    }
+
+    private void delay() {
+        long millis = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 请求处理, 返回值序列化为json响应
+     */
+    @FunctionalInterface
+    protected interface Handler {
+
+        Object handle(Exchange exchange) throws IOException;
+    }
+
+    /**
+     * 请求上下文
+     */
+    protected static class Exchange {
+
+        private final HttpExchange http;
+        private final byte[] body;
+        private final Map<String, String> query;
+        private Map<String, String> form;
+        private boolean sent;
+
+        Exchange(HttpExchange http) throws IOException {
+            this.http = http;
+            this.body = readBody(http);
+            this.query = parseParams(http.getRequestURI().getRawQuery());
+        }
+
+        public String getPath() {
+            return http.getRequestURI().getPath();
+        }
+
+        public String query(String name) {
+            return query.get(name);
+        }
+
+        public String header(String name) {
+            return http.getRequestHeaders().getFirst(name);
+        }
+
+        public String cookie(String name) {
+            String cookies = header("Cookie");
+            if (cookies == null) {
+                return null;
+            }
+            for (String pair : cookies.split(";")) {
+                String[] kv = pair.trim().split("=", 2);
+                if (kv.length == 2 && kv[0].equals(name)) {
+                    return kv[1];
+                }
+            }
+            return null;
+        }
+
+        public String body() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+
+        public JsonObject json() {
+            JsonElement element = body.length == 0 ? null : JsonParser.parseString(body());
+            return element != null && element.isJsonObject() ? element.getAsJsonObject() : new JsonObject();
+        }
+
+        /**
+         * 表单参数
+         */
+        public Map<String, String> form() {
+            if (form == null) {
+                form = parseParams(body());
+            }
+            return form;
+        }
+
+        /**
+         * 表单参数转为json对象, 值为json文本的参数还原为json
+         */
+        public JsonObject formAsJson() {
+            JsonObject object = new JsonObject();
+            form().forEach((key, value) -> {
+                String trimmed = value.trim();
+                if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+                    try {
+                        object.add(key, JsonParser.parseString(trimmed));
+                        return;
+                    } catch (RuntimeException e) {
+                        // 按普通文本处理
+                    }
+                }
+                object.addProperty(key, value);
+            });
+            return object;
+        }
+
+        public void setCookie(String name, String value, int maxAgeSeconds) {
+            http.getResponseHeaders().add("Set-Cookie",
+                    name + "=" + value + "; Max-Age=" + maxAgeSeconds + "; Path=/; HttpOnly");
+        }
+
+        public void send(int status, String json) throws IOException {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            http.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            http.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = http.getResponseBody()) {
+                out.write(bytes);
+            }
+            sent = true;
+        }
+
+        private static byte[] readBody(HttpExchange http) throws IOException {
+            InputStream in = http.getRequestBody();
+            if ("gzip".equalsIgnoreCase(http.getRequestHeaders().getFirst("Content-Encoding"))) {
+                in = new GZIPInputStream(in);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+
+        private static Map<String, String> parseParams(String text) {
+            if (StringUtils.isEmpty(text)) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> params = new LinkedHashMap<>();
+            for (String pair : text.split("&")) {
+                String[] kv = pair.split("=", 2);
+                params.put(decode(kv[0]), kv.length > 1 ? decode(kv[1]) : "");
+            }
+            return params;
+        }
+
+        private static String decode(String text) {
+            try {
+                return URLDecoder.decode(text, "UTF-8");
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
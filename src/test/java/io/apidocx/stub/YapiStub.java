@@ -0,0 +1,152 @@
+package io.apidocx.stub;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * YApi服务替身, 覆盖YapiApi使用的接口
+ */
+public class YapiStub extends StubServer {
+
+    private static final String COOKIE = "_yapi_token";
+
+    /**
+     * 分类id -> 分类
+     */
+    private final Map<Long, JsonObject> categories = new ConcurrentHashMap<>();
+
+    /**
+     * 接口id -> 接口
+     */
+    private final Map<Long, JsonObject> interfaces = new ConcurrentHashMap<>();
+
+    public YapiStub() throws IOException {
+        super("yapi");
+        route("POST", "/api/user/login", this::login);
+        route("POST", "/api/user/login_by_ldap", this::login);
+        route("GET", "/api/user/status", auth(exchange -> ok(new JsonObject())));
+        route("GET", "/api/project/get", auth(exchange -> ok(new JsonObject())));
+        route("GET", "/api/interface/getCatMenu", auth(this::getCategories));
+        route("POST", "/api/interface/add_cat", auth(this::addCategory));
+        route("GET", "/api/interface/list_cat", auth(this::listInterfaces));
+        route("GET", "/api/interface/get", auth(this::getInterface));
+        route("POST", "/api/interface/save", auth(this::saveInterface));
+        route("POST", "/api/interface/up", auth(this::updateInterface));
+    }
+
+    public int getCategoryCount() {
+        return categories.size();
+    }
+
+    public int getInterfaceCount() {
+        return interfaces.size();
+    }
+
+    private Object login(Exchange exchange) {
+        exchange.setCookie(COOKIE, issueSession(), 7 * 24 * 3600);
+        exchange.setCookie("_yapi_uid", "11", 7 * 24 * 3600);
+        return ok(new JsonObject());
+    }
+
+    private Object getCategories(Exchange exchange) {
+        String projectId = exchange.query("project_id");
+        JsonArray array = new JsonArray();
+        categories.values().stream()
+                .filter(category -> Objects.equals(category.get("project_id").getAsString(), projectId))
+                .forEach(array::add);
+        return ok(array);
+    }
+
+    private synchronized Object addCategory(Exchange exchange) {
+        JsonObject request = exchange.json();
+        String name = request.get("name").getAsString();
+        String projectId = request.get("project_id").getAsString();
+        // 与YApi一致: 同名分类重复创建
+        long id = nextId();
+        JsonObject category = new JsonObject();
+        category.addProperty("_id", id);
+        category.addProperty("name", name);
+        category.addProperty("project_id", Long.parseLong(projectId));
+        category.addProperty("index", 0);
+        categories.put(id, category);
+        return ok(category);
+    }
+
+    private Object listInterfaces(Exchange exchange) {
+        String catId = exchange.query("catid");
+        JsonArray list = new JsonArray();
+        interfaces.values().stream()
+                .filter(api -> Objects.equals(api.get("catid").getAsString(), catId))
+                .forEach(api -> {
+                    JsonObject item = new JsonObject();
+                    for (String key : new String[]{"_id", "project_id", "catid", "title", "method", "path"}) {
+                        item.add(key, api.get(key));
+                    }
+                    item.addProperty("status", "undone");
+                    list.add(item);
+                });
+        JsonObject data = new JsonObject();
+        data.addProperty("count", list.size());
+        data.addProperty("total", 1);
+        data.add("list", list);
+        return ok(data);
+    }
+
+    private Object getInterface(Exchange exchange) {
+        JsonObject api = interfaces.get(Long.parseLong(exchange.query("id")));
+        return api != null ? ok(api) : error(400, "不存在的接口");
+    }
+
+    private Object saveInterface(Exchange exchange) {
+        JsonObject api = exchange.json();
+        long id = nextId();
+        api.addProperty("_id", id);
+        api.addProperty("id", id);
+        interfaces.put(id, api);
+        JsonObject item = new JsonObject();
+        item.addProperty("_id", id);
+        JsonArray data = new JsonArray();
+        data.add(item);
+        return ok(data);
+    }
+
+    private Object updateInterface(Exchange exchange) {
+        JsonObject api = exchange.json();
+        long id = api.get("id").getAsLong();
+        if (!interfaces.containsKey(id)) {
+            return error(400, "不存在的接口");
+        }
+        api.addProperty("_id", id);
+        interfaces.put(id, api);
+        return ok(new JsonObject());
+    }
+
+    private Handler auth(Handler handler) {
+        return exchange -> {
+            String token = exchange.query("token");
+            if ((token == null || token.isEmpty()) && !isValidSession(exchange.cookie(COOKIE))) {
+                return error(40011, "请登录...");
+            }
+            return handler.handle(exchange);
+        };
+    }
+
+    private static JsonObject ok(Object data) {
+        JsonObject response = new JsonObject();
+        response.addProperty("errcode", 0);
+        response.addProperty("errmsg", "成功！");
+        response.add("data", gson.toJsonTree(data));
+        return response;
+    }
+
+    private static JsonObject error(int code, String message) {
+        JsonObject response = new JsonObject();
+        response.addProperty("errcode", code);
+        response.addProperty("errmsg", message);
+        return response;
+    }
+}